@@ -22,10 +22,14 @@ public class Netconf {
     public static final String NS_NETCONF = "urn:ietf:params:xml:ns:netconf:base:1.0";
     public static final String NS_NETCONF_WITH_DEFAULTS = "urn:ietf:params:xml:ns:yang:ietf-netconf-with-defaults";
     public static final String NS_NETCONF_NOTIFICATION = "urn:ietf:params:xml:ns:netconf:notification:1.0";
+    public static final String NS_NETCONF_NOTIFICATIONS = "urn:ietf:params:xml:ns:yang:ietf-netconf-notifications";
     public static final String NS_NETMOD_NOTIFICATION = "urn:ietf:params:xml:ns:netmod:notification";
     public static final String NS_NETCONF_MONITORING = "urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring";
     public static final String NS_TAILF_ACTIONS = "http://tail-f.com/ns/netconf/actions/1.0";
     public static final String NS_NCS = "http://tail-f.com/ns/netconf/ncs";
+    public static final String NS_YANG_LIBRARY = "urn:ietf:params:xml:ns:yang:ietf-yang-library";
+    public static final String NS_NETCONF_NMDA = "urn:ietf:params:xml:ns:yang:ietf-netconf-nmda";
+    public static final String NS_DATASTORES = "urn:ietf:params:xml:ns:yang:ietf-datastores";
 
     public static final String CAP_NETCONF_10 = "urn:ietf:params:netconf:base:1.0";
     public static final String CAP_NETCONF_11 = "urn:ietf:params:netconf:base:1.1";
@@ -40,6 +44,8 @@ public class Netconf {
     public static final String CAP_ROLLBACK_ON_ERROR = "urn:ietf:params:netconf:capability:rollback-on-error:1.0";
     public static final String CAP_URL = "urn:ietf:params:netconf:capability:url:1.0";
     public static final String CAP_XPATH = "urn:ietf:params:netconf:capability:xpath:1.0";
+    public static final String CAP_YANG_LIBRARY_10 = "urn:ietf:params:netconf:capability:yang-library:1.0";
+    public static final String CAP_YANG_LIBRARY_11 = "urn:ietf:params:netconf:capability:yang-library:1.1";
     public static final String CAP_MONITORING = NS_NETCONF_MONITORING;
     public static final String CAP_TAILF_ACTIONS = NS_TAILF_ACTIONS;
 
@@ -49,6 +55,10 @@ public class Netconf {
         RUNNING, CANDIDATE, STARTUP
     }
 
+    public enum NmdaDatastore {
+        RUNNING, CANDIDATE, STARTUP, INTENDED, OPERATIONAL
+    }
+
     public enum EditConfigDefaultOperation {
         MERGE, REPLACE, NONE
     }
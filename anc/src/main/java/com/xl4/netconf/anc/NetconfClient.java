@@ -22,6 +22,8 @@ import java.time.ZonedDateTime;
 import java.util.function.Consumer;
 
 public abstract class NetconfClient implements AutoCloseable {
+    private NetconfScheduler scheduler = NetconfScheduler.getDefault();
+
     /**
      * Create a new session
      * @return
@@ -35,6 +37,30 @@ public abstract class NetconfClient implements AutoCloseable {
      */
     public abstract void close() throws NetconfException;
 
+    /**
+     * Set the scheduler limiting the sessions and RPCs to the device
+     * @param scheduler
+     */
+    public void setScheduler(NetconfScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Get the scheduler limiting the sessions and RPCs to the device
+     * @return
+     */
+    public NetconfScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Get the identifier of the device used for scheduling, clients to the same device share its limits
+     * @return
+     */
+    public String getDevice() {
+        return getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(this));
+    }
+
     private AutoCloseable createSubscriptionThread(NetconfSession session, Consumer<XMLElement> notificationConsumer,
                                                    Consumer<NetconfException.ProtocolException> terminationConsumer) {
         session.setNotificationConsumer(notificationConsumer);
@@ -79,7 +105,12 @@ public abstract class NetconfClient implements AutoCloseable {
                                    Consumer<NetconfException.ProtocolException> terminationConsumer)
             throws NetconfException {
         NetconfSession session = createSession();
-        session.createSubscription(stream, startTime, stopTime);
+        try {
+            session.createSubscription(stream, startTime, stopTime);
+        } catch (NetconfException | RuntimeException e) {
+            session.abort();
+            throw e;
+        }
         return createSubscriptionThread(session, notificationConsumer, terminationConsumer);
     }
 
@@ -102,7 +133,12 @@ public abstract class NetconfClient implements AutoCloseable {
                                             Consumer<NetconfException.ProtocolException> terminationConsumer)
             throws NetconfException {
         NetconfSession session = createSession();
-        session.createSubscription(stream, xpathFilter, startTime, stopTime);
+        try {
+            session.createSubscription(stream, xpathFilter, startTime, stopTime);
+        } catch (NetconfException | RuntimeException e) {
+            session.abort();
+            throw e;
+        }
         return createSubscriptionThread(session, notificationConsumer, terminationConsumer);
     }
 
@@ -127,7 +163,12 @@ public abstract class NetconfClient implements AutoCloseable {
                                                    Consumer<NetconfException.ProtocolException> terminationConsumer)
             throws NetconfException {
         NetconfSession session = createSession();
-        session.createSubscription(stream, subtreeFilter, startTime, stopTime);
+        try {
+            session.createSubscription(stream, subtreeFilter, startTime, stopTime);
+        } catch (NetconfException | RuntimeException e) {
+            session.abort();
+            throw e;
+        }
         return createSubscriptionThread(session, notificationConsumer, terminationConsumer);
     }
 }
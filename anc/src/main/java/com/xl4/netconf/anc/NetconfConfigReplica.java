@@ -0,0 +1,341 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anc;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.xl4.netconf.anc.Netconf.*;
+
+/**
+ * Local replica of the running datastore of a device.
+ *
+ * The replica is built with a single get-config and then kept in sync using netconf-config-change notifications
+ * by retrieving only the changed subtrees again. If a change cannot be applied, the replica is rebuilt. If the
+ * subscription ends, the replica is rebuilt when it is accessed the next time.
+ */
+public class NetconfConfigReplica implements AutoCloseable {
+    private NetconfClient client;
+    private NetconfSession session;
+    private AutoCloseable subscription;
+    private XMLElement data;
+    private long version;
+    private boolean synced;
+    private boolean closed;
+
+    // Step of an instance-identifier, keys are triples of namespace, name and value
+    private static class Step {
+        String namespace;
+        String name;
+        List<String[]> keys = new ArrayList<>();
+        String value;
+    }
+
+    public NetconfConfigReplica(NetconfClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Check if a server supports the notifications needed to keep a replica in sync
+     * @param capabilities capabilities of a session to the server
+     * @return
+     */
+    public static boolean isSupported(Map<String,String> capabilities) {
+        return capabilities.containsKey(CAP_NOTIFICATION) && capabilities.containsKey(NS_NETCONF_NOTIFICATIONS);
+    }
+
+    /**
+     * Get a copy of the running configuration, the replica is built first if it is not in sync
+     * @return Data element
+     * @throws NetconfException
+     */
+    public synchronized XMLElement getConfig() throws NetconfException {
+        if (!synced)
+            start();
+        return data.copy();
+    }
+
+    /**
+     * Get the part of the running configuration selected by a subtree filter
+     * @param subtreeFilter Top-level filter elements, the whole configuration is returned if there are none
+     * @return Data element
+     * @throws NetconfException
+     */
+    public synchronized XMLElement getConfig(Iterable<XMLElement> subtreeFilter) throws NetconfException {
+        if (!synced)
+            start();
+        return subtreeFilter.iterator().hasNext() ? NetconfFilter.applySubtree(data, subtreeFilter) : data.copy();
+    }
+
+    /**
+     * Get the version of the replica which is incremented whenever a change is applied
+     * @return
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Check if the replica is currently kept in sync with the device
+     * @return
+     */
+    public synchronized boolean isSynchronized() {
+        return synced;
+    }
+
+    // Subscribe to configuration changes and build the replica
+    private void start() throws NetconfException {
+        if (closed)
+            throw new NetconfException("Replica is closed");
+
+        stop();
+        try {
+            // Subscribe first so that no change between retrieval and subscription is missed
+            session = client.createSession();
+            subscription = client.createSubscriptionSession(null, new XMLElement(NS_NETCONF_NOTIFICATIONS,
+                    "netconf-config-change"), null, null, this::onNotification, this::onTermination);
+            resync();
+        } catch (NetconfException e) {
+            stop();
+            throw e;
+        }
+    }
+
+    // End the subscription and session
+    private void stop() {
+        synced = false;
+        for (AutoCloseable closeable: new AutoCloseable[] {subscription, session}) {
+            try {
+                if (closeable != null)
+                    closeable.close();
+            } catch (Exception e) {
+                // pass
+            }
+        }
+        subscription = null;
+        session = null;
+    }
+
+    // Retrieve the whole running datastore
+    private void resync() throws NetconfException {
+        data = session.getConfig(Datastore.RUNNING, "get-config");
+        synced = true;
+        ++version;
+    }
+
+    private synchronized void onNotification(XMLElement notification) {
+        Optional<XMLElement> change = notification.getFirst(NS_NETCONF_NOTIFICATIONS, "netconf-config-change");
+        if (!synced || !change.isPresent() ||
+                !change.get().getTextOrDefault(NS_NETCONF_NOTIFICATIONS, "datastore", "running").equals("running"))
+            return;
+
+        try {
+            // Without edits the server does not tell what changed
+            List<XMLElement> edits = change.get().stream(NS_NETCONF_NOTIFICATIONS, "edit")
+                    .collect(Collectors.toList());
+            if (edits.isEmpty()) {
+                resync();
+                return;
+            }
+
+            for (XMLElement edit: edits) {
+                Optional<List<Step>> steps = edit.getFirst(NS_NETCONF_NOTIFICATIONS, "target").flatMap(
+                        NetconfConfigReplica::parsePath);
+                if (!steps.isPresent() || steps.get().isEmpty()) {
+                    resync();
+                    return;
+                }
+
+                String operation = edit.getTextOrDefault(NS_NETCONF_NOTIFICATIONS, "operation", "merge");
+                if (operation.equals("delete") || operation.equals("remove"))
+                    apply(steps.get(), null);
+                else
+                    apply(steps.get(), session.getConfig(Datastore.RUNNING,
+                            Collections.singletonList(createFilter(steps.get())), "get-config"));
+            }
+            ++version;
+        } catch (NetconfException e) {
+            e.printStackTrace();
+            stop();
+        }
+    }
+
+    private synchronized void onTermination(NetconfException.ProtocolException error) {
+        if (error != null)
+            stop();
+    }
+
+    /**
+     * Parse an instance-identifier, prefixes are resolved in the scope of the element containing it
+     * @param target element containing the instance-identifier
+     * @return steps of the path unless it is not supported, e.g. when using positional predicates
+     */
+    private static Optional<List<Step>> parsePath(XMLElement target) {
+        String path = target.getText().trim();
+        List<Step> steps = new ArrayList<>();
+        String namespace = null;
+
+        for (int i = 0; i < path.length(); ) {
+            if (path.charAt(i) != '/')
+                return Optional.empty();
+
+            int start = ++i;
+            while (i < path.length() && path.charAt(i) != '/' && path.charAt(i) != '[')
+                ++i;
+
+            Step step = new Step();
+            String[] name = resolveName(target, path.substring(start, i).trim(), namespace);
+            if (name == null)
+                return Optional.empty();
+            step.namespace = namespace = name[0];
+            step.name = name[1];
+
+            while (i < path.length() && path.charAt(i) == '[') {
+                int equals = path.indexOf('=', i);
+                int close = path.indexOf(']', i);
+                if (equals < 0 || close < equals)
+                    return Optional.empty();
+
+                int quote = equals + 1;
+                while (quote < path.length() && Character.isWhitespace(path.charAt(quote)))
+                    ++quote;
+                if (quote >= path.length() || (path.charAt(quote) != '\'' && path.charAt(quote) != '"'))
+                    return Optional.empty();
+
+                int end = path.indexOf(path.charAt(quote), quote + 1);
+                if (end < 0)
+                    return Optional.empty();
+
+                String key = path.substring(i + 1, equals).trim();
+                String value = path.substring(quote + 1, end);
+                if (key.equals(".")) {
+                    step.value = value;
+                } else {
+                    String[] keyName = resolveName(target, key, namespace);
+                    if (keyName == null)
+                        return Optional.empty();
+                    step.keys.add(new String[] {keyName[0], keyName[1], value});
+                }
+
+                i = end + 1;
+                while (i < path.length() && Character.isWhitespace(path.charAt(i)))
+                    ++i;
+                if (i >= path.length() || path.charAt(i) != ']')
+                    return Optional.empty();
+                ++i;
+            }
+            steps.add(step);
+        }
+        return Optional.of(steps);
+    }
+
+    // Resolve a possibly prefixed name to namespace and local name, unprefixed names are in the default namespace
+    private static String[] resolveName(XMLElement target, String name, String defaultNamespace) {
+        int colon = name.indexOf(':');
+        String namespace = (colon < 0) ? defaultNamespace :
+                target.getElement().lookupNamespaceURI(name.substring(0, colon));
+        return (namespace == null || name.isEmpty()) ? null : new String[] {namespace, name.substring(colon + 1)};
+    }
+
+    // Create a subtree filter selecting the node a path points to
+    private static XMLElement createFilter(List<Step> steps) {
+        XMLElement filter = null;
+        XMLElement parent = null;
+        for (Step step: steps) {
+            XMLElement element = (parent == null) ? new XMLElement(step.namespace, step.name) :
+                    parent.createChild(step.namespace, step.name);
+            for (String[] key: step.keys)
+                element.withTextChild(key[0], key[1], key[2]);
+            if (step.value != null)
+                element.withText(step.value);
+
+            if (filter == null)
+                filter = element;
+            parent = element;
+        }
+        return filter;
+    }
+
+    private static boolean matches(Node node, Step step) {
+        if (node.getNodeType() != Node.ELEMENT_NODE || !step.name.equals(node.getLocalName()) ||
+                !step.namespace.equals(node.getNamespaceURI()))
+            return false;
+
+        if (step.value != null && !node.getTextContent().trim().equals(step.value))
+            return false;
+
+        for (String[] key: step.keys) {
+            boolean found = false;
+            for (Node child = node.getFirstChild(); !found && child != null; child = child.getNextSibling())
+                found = child.getNodeType() == Node.ELEMENT_NODE && key[1].equals(child.getLocalName()) &&
+                        key[0].equals(child.getNamespaceURI()) && child.getTextContent().trim().equals(key[2]);
+            if (!found)
+                return false;
+        }
+        return true;
+    }
+
+    private static Element findChild(Element parent, Step step) {
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling())
+            if (matches(child, step))
+                return (Element)child;
+        return null;
+    }
+
+    /**
+     * Replace the node a path points to with its current state
+     * @param steps path of the changed node
+     * @param reply data element retrieved with a filter for the path or null if the node was deleted
+     */
+    private void apply(List<Step> steps, XMLElement reply) {
+        Element target = data.getElement();
+        Element source = (reply != null) ? reply.getElement() : null;
+
+        for (int i = 0; i < steps.size(); ++i) {
+            Step step = steps.get(i);
+            Element targetChild = findChild(target, step);
+            Element sourceChild = (source != null) ? findChild(source, step) : null;
+
+            // Replace the changed node or insert the first ancestor not yet part of the replica with its subtree
+            if (i == steps.size() - 1 || targetChild == null) {
+                for (; targetChild != null; targetChild = findChild(target, step))
+                    target.removeChild(targetChild);
+                if (sourceChild != null)
+                    target.appendChild(target.getOwnerDocument().importNode(sourceChild, true));
+                return;
+            }
+
+            target = targetChild;
+            source = sourceChild;
+        }
+    }
+
+    /**
+     * End the subscription and the session used for retrieving changes
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        stop();
+        data = null;
+    }
+}
@@ -0,0 +1,293 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anc;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static com.xl4.netconf.anc.Netconf.NS_NETCONF;
+import static com.xl4.netconf.anc.Netconf.NS_NETCONF_NMDA;
+
+/**
+ * Incremental parser for a single reply to a data retrieval operation.
+ *
+ * The top-level data nodes are handed to a listener in batches while the reply is still being received. The rest of
+ * the message, e.g. rpc-errors, is returned as a regular element once it is complete.
+ *
+ * The listener may switch to a writer at any top-level node or child of one, the data nodes are then written as they
+ * are read from the stream without keeping them in memory.
+ */
+class NetconfDataReceiver {
+    // Minimum time in milliseconds between two batches handed to the listener
+    private static final long BATCH_INTERVAL = 250;
+
+    // Depths of the data element, top-level data nodes and their children within an rpc-reply
+    private static final int DEPTH_DATA = 2;
+    private static final int DEPTH_TOP = 3;
+    private static final int DEPTH_ENTRY = 4;
+
+    private CountingInputStream input;
+    private NetconfSession.DataListener listener;
+    private Deque<Element> stack = new ArrayDeque<>();
+    private XMLElement message;
+    private Element data;
+    private XMLElement batch;
+    private NetconfSession.DataWriter writer;
+    private boolean continued;
+    private long entries;
+    private long flushed;
+
+    // Input counting the bytes of the reply, the listener may stop a reply growing too large after any read
+    private class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0)
+                received(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0)
+                received(read);
+            return read;
+        }
+
+        private void received(int bytes) throws IOException {
+            count += bytes;
+            if (!listener.onReceived(bytes))
+                throw new IOException("Reply exceeds the size limit");
+        }
+    }
+
+    NetconfDataReceiver(InputStream input, NetconfSession.DataListener listener) {
+        this.listener = listener;
+        this.input = new CountingInputStream(input);
+    }
+
+    /**
+     * Receive one message
+     * @return the message, the data element of an rpc-reply is returned without its children
+     * @throws IOException
+     * @throws XMLElement.XMLException
+     */
+    XMLElement receive() throws IOException, XMLElement.XMLException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(input);
+            try {
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT)
+                        startElement(reader);
+                    else if (event == XMLStreamConstants.END_ELEMENT)
+                        endElement();
+                    else if ((event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) &&
+                            !stack.isEmpty() && stack.peek() != data)
+                        characters(reader.getText());
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new XMLElement.XMLException(e);
+        }
+
+        if (message == null)
+            throw new IOException("Empty message");
+        return message;
+    }
+
+    private void startElement(XMLStreamReader reader) throws IOException {
+        if (message == null) {
+            message = new XMLElement(reader.getNamespaceURI(), reader.getLocalName());
+            copyAttributes(reader, message.getElement());
+            stack.push(message.getElement());
+            return;
+        }
+
+        Element parent = (data != null && stack.peek() == data) ? batch.getElement() : stack.peek();
+        Element element = parent.getOwnerDocument().createElementNS(emptyToNull(reader.getNamespaceURI()),
+                getQualifiedName(reader.getPrefix(), reader.getLocalName()));
+        copyAttributes(reader, element);
+        stack.push(element);
+
+        // Once switched to a writer, data nodes are only kept until they are written
+        if (writer != null && batch != null) {
+            if (parent == batch.getElement())
+                declareScope(element);
+            writer.startElement(element, false);
+            return;
+        }
+        parent.appendChild(element);
+
+        // Only the content of the data element of an rpc-reply is streamed
+        if (stack.size() == DEPTH_DATA && data == null && isNetconf(message.getElement(), "rpc-reply") &&
+                isData(element)) {
+            data = element;
+            flushed = System.currentTimeMillis();
+            batch = createBatch();
+        }
+    }
+
+    private void characters(String text) throws IOException {
+        if (writer != null && batch != null)
+            writer.text(text);
+        else
+            stack.peek().appendChild(stack.peek().getOwnerDocument().createTextNode(text));
+    }
+
+    private void endElement() throws IOException {
+        Element element = stack.pop();
+        if (element == data) {
+            flush();
+            batch = null;
+            return;
+        }
+
+        if (writer != null && batch != null)
+            writer.endElement();
+        if (batch != null && (stack.size() == DEPTH_TOP - 1 || stack.size() == DEPTH_ENTRY - 1)) {
+            ++entries;
+            if (writer == null) {
+                writer = listener.getWriter(input.count);
+                if (writer != null)
+                    spill();
+            }
+            if (System.currentTimeMillis() - flushed >= BATCH_INTERVAL)
+                flush();
+        }
+    }
+
+    // Write the batch not handed out yet to the writer, a still open top-level node is continued by the writer
+    private void spill() throws IOException {
+        if (batch.getElement().hasChildNodes())
+            writer.write(batch, continued);
+
+        batch = createBatch();
+        if (stack.size() == DEPTH_TOP) {
+            Element open = (Element)batch.getElement().getOwnerDocument().importNode(stack.pop(), false);
+            stack.push(open);
+            writer.startElement(open, true);
+        }
+    }
+
+    // Hand out the current batch and continue a still open top-level node in a new one
+    private void flush() {
+        if (writer != null) {
+            listener.onProgress(input.count, entries);
+            flushed = System.currentTimeMillis();
+            return;
+        }
+
+        if (batch.getElement().hasChildNodes())
+            listener.onData(batch, continued);
+        listener.onProgress(input.count, entries);
+
+        batch = createBatch();
+        continued = stack.size() == DEPTH_TOP;
+        if (continued) {
+            Element open = (Element)batch.getElement().getOwnerDocument().importNode(stack.pop(), false);
+            batch.getElement().appendChild(open);
+            stack.push(open);
+        }
+        flushed = System.currentTimeMillis();
+    }
+
+    // Create a new document for a batch of top-level nodes, namespace declarations of ancestors are kept in scope
+    private XMLElement createBatch() {
+        XMLElement result = new XMLElement(NS_NETCONF, "data");
+        for (Element ancestor: new Element[] {message.getElement(), data}) {
+            NamedNodeMap attributes = ancestor.getAttributes();
+            for (int i = 0; i < attributes.getLength(); ++i) {
+                Attr attribute = (Attr)attributes.item(i);
+                if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()))
+                    result.getElement().setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                            attribute.getName(), attribute.getValue());
+            }
+        }
+        return result;
+    }
+
+    // Declare the namespaces in scope of the reply on a top-level node written on its own
+    private void declareScope(Element element) {
+        NamedNodeMap attributes = batch.getElement().getAttributes();
+        for (int i = 0; i < attributes.getLength(); ++i) {
+            Attr attribute = (Attr)attributes.item(i);
+            if (!element.hasAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getLocalName()))
+                element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getName(), attribute.getValue());
+        }
+    }
+
+    private static void copyAttributes(XMLStreamReader reader, Element element) {
+        for (int i = 0; i < reader.getNamespaceCount(); ++i) {
+            String prefix = reader.getNamespacePrefix(i);
+            element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                    (prefix == null || prefix.isEmpty()) ? XMLConstants.XMLNS_ATTRIBUTE : "xmlns:" + prefix,
+                    reader.getNamespaceURI(i) != null ? reader.getNamespaceURI(i) : "");
+        }
+
+        for (int i = 0; i < reader.getAttributeCount(); ++i)
+            element.setAttributeNS(emptyToNull(reader.getAttributeNamespace(i)),
+                    getQualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                    reader.getAttributeValue(i));
+    }
+
+    private static boolean isNetconf(Element element, String name) {
+        return NS_NETCONF.equals(element.getNamespaceURI()) && name.equals(element.getLocalName());
+    }
+
+    // The reply to get-data uses a data element of its own namespace
+    private static boolean isData(Element element) {
+        return isNetconf(element, "data") ||
+                (NS_NETCONF_NMDA.equals(element.getNamespaceURI()) && "data".equals(element.getLocalName()));
+    }
+
+    private static String getQualifiedName(String prefix, String name) {
+        return (prefix == null || prefix.isEmpty()) ? name : prefix + ":" + name;
+    }
+
+    private static String emptyToNull(String value) {
+        return (value == null || value.isEmpty()) ? null : value;
+    }
+}
@@ -42,6 +42,17 @@ public class NetconfException extends Exception {
         }
     }
 
+    /**
+     * The request was rejected without contacting the device, because the device is overloaded.
+     *
+     * The session remains usable, the request may be retried later.
+     */
+    public static class OverloadException extends NetconfException {
+        public OverloadException(String msg) {
+            super(msg);
+        }
+    }
+
     /**
      * A high-level RPC exception.
      */
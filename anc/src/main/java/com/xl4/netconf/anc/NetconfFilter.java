@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anc;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import javax.xml.XMLConstants;
+import java.util.*;
+
+/**
+ * Local evaluation of NETCONF filters on retrieved data, e.g. to serve filtered views from a datastore snapshot.
+ */
+public class NetconfFilter {
+    // Selected data nodes, mapped to true if their whole subtree is selected
+    private Map<Node,Boolean> marks = new IdentityHashMap<>();
+
+    private NetconfFilter() {
+    }
+
+    /**
+     * Apply a subtree filter as defined in RFC 6241 section 6 to data
+     * @param data          Data element containing the top-level data nodes
+     * @param subtreeFilter Top-level filter elements
+     * @return Data element in a new document containing the selected data nodes
+     */
+    public static XMLElement applySubtree(XMLElement data, Iterable<XMLElement> subtreeFilter) {
+        NetconfFilter filter = new NetconfFilter();
+        List<Element> filters = new ArrayList<>();
+        for (XMLElement element: subtreeFilter)
+            filters.add(element.getElement());
+
+        for (Element child: getChildElements(data.getElement())) {
+            List<Element> matching = getMatchingFilters(filters, child);
+            if (!matching.isEmpty())
+                filter.evaluate(child, matching);
+        }
+        return filter.createResult(data);
+    }
+
+    /**
+     * Apply an XPath filter to data, selected nodes are returned with their ancestors
+     * @param data       Data element containing the top-level data nodes
+     * @param xpath      XPath expression selecting elements, absolute paths are evaluated relative to the data element
+     * @param namespaces Namespace definitions in the form of "prefix=URI"
+     * @return Data element in a new document containing the selected data nodes
+     */
+    public static XMLElement applyXPath(XMLElement data, String xpath, String... namespaces) {
+        NetconfFilter filter = new NetconfFilter();
+        String expression = xpath.trim().startsWith("/") ? "." + xpath.trim() : xpath;
+
+        data.find(expression, namespaces).forEach(element -> {
+            Node node = element.getElement();
+            filter.marks.put(node, true);
+            for (node = node.getParentNode(); node != null && node != data.getElement(); node = node.getParentNode())
+                filter.marks.putIfAbsent(node, false);
+        });
+        return filter.createResult(data);
+    }
+
+    private static List<Element> getChildElements(Element element) {
+        List<Element> children = new ArrayList<>();
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling())
+            if (child.getNodeType() == Node.ELEMENT_NODE)
+                children.add((Element)child);
+        return children;
+    }
+
+    // Filter nodes without namespace match data nodes of any namespace
+    private static boolean matchesName(Element filter, Element data) {
+        return filter.getLocalName().equals(data.getLocalName()) && (filter.getNamespaceURI() == null ||
+                filter.getNamespaceURI().isEmpty() || filter.getNamespaceURI().equals(data.getNamespaceURI()));
+    }
+
+    // Attributes of a filter node other than namespace declarations need to be present in the data node
+    private static boolean matchesAttributes(Element filter, Element data) {
+        NamedNodeMap attributes = filter.getAttributes();
+        for (int i = 0; i < attributes.getLength(); ++i) {
+            Attr attribute = (Attr)attributes.item(i);
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()))
+                continue;
+
+            String value = (attribute.getNamespaceURI() != null) ?
+                    data.getAttributeNS(attribute.getNamespaceURI(), attribute.getLocalName()) :
+                    data.getAttribute(attribute.getName());
+            if (!attribute.getValue().equals(value))
+                return false;
+        }
+        return true;
+    }
+
+    private static List<Element> getMatchingFilters(List<Element> filters, Element data) {
+        List<Element> matching = new ArrayList<>();
+        for (Element filter: filters)
+            if (matchesName(filter, data))
+                matching.add(filter);
+        return matching;
+    }
+
+    // Content match nodes are leafs with a non-whitespace value
+    private static boolean isContentMatch(Element filter) {
+        return getChildElements(filter).isEmpty() && !filter.getTextContent().trim().isEmpty();
+    }
+
+    /**
+     * Evaluate filter nodes on a data node whose name they match
+     * @param data    data node
+     * @param filters filter nodes, multiple filter nodes select the union of their results
+     * @return whether the data node is selected
+     */
+    private boolean evaluate(Element data, List<Element> filters) {
+        boolean selected = false;
+        List<Element> children = getChildElements(data);
+
+        for (Element filter: filters) {
+            if (!matchesAttributes(filter, data))
+                continue;
+
+            // A selection node selects the whole subtree
+            List<Element> filterChildren = getChildElements(filter);
+            if (filterChildren.isEmpty()) {
+                marks.put(data, true);
+                return true;
+            }
+
+            List<Element> contentMatches = new ArrayList<>();
+            List<Element> others = new ArrayList<>();
+            for (Element filterChild: filterChildren)
+                (isContentMatch(filterChild) ? contentMatches : others).add(filterChild);
+
+            // All content match nodes need to match, otherwise the data node is not selected by this filter node
+            List<Element> matchedLeafs = new ArrayList<>();
+            boolean matches = true;
+            for (Element contentMatch: contentMatches) {
+                boolean found = false;
+                for (Element child: children) {
+                    if (matchesName(contentMatch, child) && getChildElements(child).isEmpty() &&
+                            child.getTextContent().trim().equals(contentMatch.getTextContent().trim())) {
+                        matchedLeafs.add(child);
+                        found = true;
+                    }
+                }
+                matches = matches && found;
+            }
+
+            if (!matches)
+                continue;
+
+            // Content match nodes without siblings select all siblings
+            if (others.isEmpty()) {
+                marks.put(data, true);
+                return true;
+            }
+
+            boolean any = !matchedLeafs.isEmpty();
+            for (Element leaf: matchedLeafs)
+                marks.put(leaf, true);
+
+            for (Element child: children) {
+                List<Element> matching = getMatchingFilters(others, child);
+                if (!matching.isEmpty() && evaluate(child, matching))
+                    any = true;
+            }
+
+            if (any) {
+                marks.putIfAbsent(data, false);
+                selected = true;
+            }
+        }
+        return selected;
+    }
+
+    private XMLElement createResult(XMLElement data) {
+        XMLElement result = new XMLElement(data.getNamespace(), data.getName());
+
+        // Keep namespace declarations in scope for prefixed values, e.g. identityrefs
+        NamedNodeMap attributes = data.getElement().getAttributes();
+        for (int i = 0; i < attributes.getLength(); ++i) {
+            Attr attribute = (Attr)attributes.item(i);
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()))
+                result.getElement().setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                        attribute.getName(), attribute.getValue());
+        }
+
+        for (Element child: getChildElements(data.getElement()))
+            copy(child, result.getElement());
+        return result;
+    }
+
+    // Copy selected data nodes and the selected parts of their subtrees
+    private void copy(Element source, Element target) {
+        Boolean whole = marks.get(source);
+        if (whole == null)
+            return;
+
+        Element copy = (Element)target.getOwnerDocument().importNode(source, whole);
+        target.appendChild(copy);
+        if (!whole)
+            for (Element child: getChildElements(source))
+                copy(child, copy);
+    }
+}
@@ -33,6 +33,9 @@ import org.apache.sshd.common.session.SessionHeartbeatController.HeartbeatType;
 import java.io.IOException;
 import java.security.KeyPair;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 public class NetconfSSHClient extends NetconfClient {
@@ -44,6 +47,7 @@ public class NetconfSSHClient extends NetconfClient {
     private ServerKeyVerifier verifier = RejectAllServerKeyVerifier.INSTANCE;
     private int port;
     private int timeout = 5000;
+    private Set<NetconfSession> sessions = ConcurrentHashMap.newKeySet();
 
     /**
      * Create a new NETCONF connection to the given server
@@ -123,12 +127,36 @@ public class NetconfSSHClient extends NetconfClient {
         }
     }
 
+    @Override
+    public String getDevice() {
+        return hostname + ":" + port;
+    }
+
     /**
      * Create a new NETCONF session (and create the underlying SSH connection if it didn't already exist).
+     *
+     * Waits until the scheduler allows another session to the device.
      * @return
      * @throws NetconfException.ProtocolException
+     * @throws NetconfException.OverloadException if the device is overloaded
      */
-    public synchronized NetconfSession createSession() throws NetconfException.ProtocolException {
+    public NetconfSession createSession() throws NetconfException {
+        NetconfScheduler.Permit permit = getScheduler().acquireSession(getDevice(), this);
+        try {
+            NetconfSession session = openSession();
+            sessions.add(session);
+            session.setSessionPermit(() -> {
+                sessions.remove(session);
+                permit.close();
+            });
+            return session;
+        } catch (NetconfException | RuntimeException e) {
+            permit.close();
+            throw e;
+        }
+    }
+
+    private synchronized NetconfSession openSession() throws NetconfException.ProtocolException {
         ClientSession session;
         try {
             ConnectFuture connect = client.connect(this.username, this.hostname, this.port);
@@ -172,6 +200,9 @@ public class NetconfSSHClient extends NetconfClient {
      * Close the NETCONF connection to the server including any remaining sessions.
      */
     public void close() {
+        // Stopping the client drops the connections, sessions are aborted first to release their permits
+        for (NetconfSession session: new ArrayList<>(sessions))
+            session.abort();
         client.stop();
     }
 }
@@ -0,0 +1,355 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anc;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler limiting the load on devices, all sessions and RPCs of clients using the same scheduler go through it.
+ *
+ * Per device, the number of concurrent sessions and RPCs is limited and new sessions and RPCs are rate-limited
+ * using a token bucket. Waiting requests are served round-robin across callers, so a caller issuing many requests
+ * does not starve others. Requests are rejected with an OverloadException if too many are waiting already or if
+ * they waited too long.
+ *
+ * The session limit covers all sessions to a device, including long-lived ones like notification subscriptions.
+ * Pools keeping idle sessions register them, so idle sessions are closed once another session has to wait.
+ */
+public class NetconfScheduler {
+    // Limits of the default scheduler, applications set up a scheduler with their own limits using the constructor
+    public static final int DEFAULT_MAX_SESSIONS = 16;
+    public static final int DEFAULT_MAX_CALLS = 4;
+    public static final double DEFAULT_RATE = 20;
+    public static final int DEFAULT_BURST = 40;
+    public static final int DEFAULT_MAX_QUEUED = 64;
+    public static final long DEFAULT_MAX_WAIT = TimeUnit.MINUTES.toMillis(2);
+
+    private static final NetconfScheduler defaultScheduler = new NetconfScheduler(DEFAULT_MAX_SESSIONS,
+            DEFAULT_MAX_CALLS, DEFAULT_RATE, DEFAULT_BURST, DEFAULT_MAX_QUEUED, DEFAULT_MAX_WAIT);
+
+    private int maxSessions;
+    private int maxCalls;
+    private double rate;
+    private int burst;
+    private int maxQueued;
+    private long maxWait;
+    private Map<String,Device> devices = new HashMap<>();
+    private long swept = System.nanoTime();
+
+    /**
+     * Permission to use a device, needs to be closed once the session or RPC is done
+     */
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Holder of idle sessions to a device, e.g. a session pool
+     */
+    public interface IdleSessions {
+        /**
+         * Close an idle session in the background, so its permit is released
+         * @return whether there was an idle session
+         */
+        boolean evict();
+    }
+
+    private static class Waiter {
+        private boolean session;
+        private boolean rateLimited;
+        private boolean granted;
+
+        Waiter(boolean session, boolean rateLimited) {
+            this.session = session;
+            this.rateLimited = rateLimited;
+        }
+    }
+
+    private class Device {
+        private String name;
+        private int sessions;
+        private int calls;
+        private int queued;
+        private double tokens = burst;
+        private long refilled = System.nanoTime();
+
+        // Waiting requests by caller, callers are served in the order of this map and moved to its end when served
+        private LinkedHashMap<Object,Deque<Waiter>> queues = new LinkedHashMap<>();
+
+        // Holders of idle sessions, asked in turn to close one when a session has to wait
+        private List<IdleSessions> idle = new ArrayList<>();
+
+        Device(String name) {
+            this.name = name;
+        }
+
+        // Entries of devices not in use are dropped once their bucket is full again, so dropping changes nothing
+        boolean isUnused() {
+            return sessions == 0 && calls == 0 && queued == 0 && idle.isEmpty() && (rate <= 0 || tokens >= burst);
+        }
+    }
+
+    /**
+     * Create a new scheduler
+     * @param maxSessions maximum number of sessions open to a device at the same time
+     * @param maxCalls    maximum number of RPCs running on a device at the same time
+     * @param rate        new sessions and RPCs per second and device or 0 for no rate limit
+     * @param burst       new sessions and RPCs allowed at once after the device was idle
+     * @param maxQueued   maximum number of requests waiting per device before new ones are rejected
+     * @param maxWait     maximum time in milliseconds a request waits before it is rejected
+     */
+    public NetconfScheduler(int maxSessions, int maxCalls, double rate, int burst, int maxQueued, long maxWait) {
+        this.maxSessions = maxSessions;
+        this.maxCalls = maxCalls;
+        this.rate = rate;
+        this.burst = Math.max(burst, 1);
+        this.maxQueued = maxQueued;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Get the scheduler used by clients unless another one is set with NetconfClient.setScheduler
+     * @return
+     */
+    public static NetconfScheduler getDefault() {
+        return defaultScheduler;
+    }
+
+    /**
+     * Wait until a new session to a device may be opened
+     * @param device identifier of the device
+     * @param caller identifier of the caller to queue the request for
+     * @return permit to be closed once the session is closed
+     * @throws NetconfException.OverloadException if the device is overloaded
+     * @throws NetconfException if interrupted while waiting
+     */
+    public Permit acquireSession(String device, Object caller) throws NetconfException {
+        return acquire(device, caller, true, true);
+    }
+
+    /**
+     * Wait until a RPC may be sent to a device
+     * @param device identifier of the device
+     * @param caller identifier of the caller to queue the request for
+     * @return permit to be closed once the reply was received
+     * @throws NetconfException.OverloadException if the device is overloaded
+     * @throws NetconfException if interrupted while waiting
+     */
+    public Permit acquireCall(String device, Object caller) throws NetconfException {
+        return acquire(device, caller, false, true);
+    }
+
+    /**
+     * Wait until a RPC may be sent to a device
+     * @param device      identifier of the device
+     * @param caller      identifier of the caller to queue the request for
+     * @param rateLimited whether the RPC counts towards the rate limit, bulk operations like downloading all schemas
+     *                    at login are only limited in concurrency
+     * @return permit to be closed once the reply was received
+     * @throws NetconfException.OverloadException if the device is overloaded
+     * @throws NetconfException if interrupted while waiting
+     */
+    public Permit acquireCall(String device, Object caller, boolean rateLimited) throws NetconfException {
+        return acquire(device, caller, false, rateLimited);
+    }
+
+    /**
+     * Register idle sessions which are closed when other sessions to the device have to wait
+     * @param device identifier of the device
+     * @param idle
+     */
+    public synchronized void addIdleSessions(String device, IdleSessions idle) {
+        devices.computeIfAbsent(device, Device::new).idle.add(idle);
+    }
+
+    /**
+     * Unregister idle sessions, e.g. when the pool is closed
+     * @param device identifier of the device
+     * @param idle
+     */
+    public synchronized void removeIdleSessions(String device, IdleSessions idle) {
+        Device state = devices.get(device);
+        if (state != null) {
+            state.idle.remove(idle);
+            if (state.isUnused())
+                devices.remove(device);
+        }
+    }
+
+    /**
+     * Check whether requests are waiting for a device, e.g. to close idle sessions instead of keeping them
+     * @param device identifier of the device
+     * @return
+     */
+    public synchronized boolean isContended(String device) {
+        Device state = devices.get(device);
+        return state != null && state.queued > 0;
+    }
+
+    private synchronized Permit acquire(String name, Object caller, boolean session, boolean rateLimited)
+            throws NetconfException {
+        sweep();
+        Device device = devices.computeIfAbsent(name, Device::new);
+        if (device.queued >= maxQueued)
+            throw new NetconfException.OverloadException(String.format(
+                    "Too many requests waiting for %s, try again later", name));
+
+        Waiter waiter = new Waiter(session, rateLimited);
+        device.queues.computeIfAbsent(caller, x -> new ArrayDeque<>()).add(waiter);
+        ++device.queued;
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWait);
+        try {
+            dispatch(device);
+
+            // Idle sessions give way to sessions which would have to wait otherwise, one for each
+            if (session && !waiter.granted && device.sessions >= maxSessions)
+                evict(device);
+
+            while (true) {
+                dispatch(device);
+                if (waiter.granted)
+                    return createPermit(device, session);
+
+                long now = System.nanoTime();
+                if (now - deadline >= 0)
+                    throw new NetconfException.OverloadException(String.format(
+                            "Timed out waiting for %s, the device is busy", name));
+
+                // Wake up when the next token is available if only the rate limit holds requests back
+                long delay = deadline - now;
+                if (rate > 0 && device.tokens < 1)
+                    delay = Math.min(delay, (long)Math.ceil((1 - device.tokens) * 1e9 / rate));
+                TimeUnit.NANOSECONDS.timedWait(this, Math.max(delay, 1));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NetconfException("Interrupted while waiting for " + name);
+        } finally {
+            if (!waiter.granted) {
+                Deque<Waiter> queue = device.queues.get(caller);
+                queue.remove(waiter);
+                if (queue.isEmpty())
+                    device.queues.remove(caller);
+                --device.queued;
+
+                // Requests of others may have been held back behind this one
+                dispatch(device);
+                if (device.isUnused())
+                    devices.remove(name, device);
+            }
+        }
+    }
+
+    // Ask the holders of idle sessions in turn until one closed a session
+    private void evict(Device device) {
+        for (int i = 0; i < device.idle.size(); ++i) {
+            IdleSessions idle = device.idle.remove(0);
+            device.idle.add(idle);
+            if (idle.evict())
+                return;
+        }
+    }
+
+    // Drop entries of devices no longer in use, checked at most once per second
+    private void sweep() {
+        long now = System.nanoTime();
+        if (now - swept < 1000000000L)
+            return;
+        swept = now;
+
+        for (Iterator<Device> iterator = devices.values().iterator(); iterator.hasNext(); ) {
+            Device device = iterator.next();
+            refill(device);
+            if (device.isUnused())
+                iterator.remove();
+        }
+    }
+
+    private void refill(Device device) {
+        if (rate > 0) {
+            long now = System.nanoTime();
+            device.tokens = Math.min(burst, device.tokens + (now - device.refilled) * rate / 1e9);
+            device.refilled = now;
+        }
+    }
+
+    // Grant waiting requests round-robin across callers as long as the limits allow
+    private void dispatch(Device device) {
+        refill(device);
+
+        boolean granted = false;
+        while (true) {
+            Map.Entry<Object,Deque<Waiter>> next = null;
+            for (Map.Entry<Object,Deque<Waiter>> entry: device.queues.entrySet()) {
+                Waiter waiter = entry.getValue().peek();
+                if ((waiter.session ? device.sessions < maxSessions : device.calls < maxCalls) &&
+                        (rate <= 0 || !waiter.rateLimited || device.tokens >= 1)) {
+                    next = entry;
+                    break;
+                }
+            }
+            if (next == null)
+                break;
+
+            Waiter waiter = next.getValue().pop();
+            waiter.granted = true;
+            if (waiter.session)
+                ++device.sessions;
+            else
+                ++device.calls;
+            --device.queued;
+            if (rate > 0 && waiter.rateLimited)
+                device.tokens -= 1;
+            granted = true;
+
+            device.queues.remove(next.getKey());
+            if (!next.getValue().isEmpty())
+                device.queues.put(next.getKey(), next.getValue());
+        }
+
+        if (granted)
+            notifyAll();
+    }
+
+    private Permit createPermit(Device device, boolean session) {
+        return new Permit() {
+            private boolean closed;
+
+            @Override
+            public void close() {
+                synchronized (NetconfScheduler.this) {
+                    if (closed)
+                        return;
+                    closed = true;
+
+                    if (session)
+                        --device.sessions;
+                    else
+                        --device.calls;
+                    dispatch(device);
+                    if (device.isUnused())
+                        devices.remove(device.name, device);
+                }
+            }
+        };
+    }
+}
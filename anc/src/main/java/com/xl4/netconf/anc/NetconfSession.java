@@ -18,6 +18,9 @@
 
 package com.xl4.netconf.anc;
 
+import org.w3c.dom.Element;
+
+import javax.xml.XMLConstants;
 import java.io.*;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -40,13 +43,95 @@ public class NetconfSession implements AutoCloseable {
     private int messageID;
     private Netconf.DefaultsMode defaultsMode;
     private Netconf.NCSCommitParameter ncsCommitParameter;
-    private boolean closed;
+    private volatile boolean closed;
     private Consumer<XMLElement> notificationConsumer;
     private BiConsumer<XMLElement,XMLElement> callTraceConsumer;
+    private NetconfScheduler.Permit sessionPermit;
+    private volatile boolean rateLimited = true;
 
     private Function<InputStream,InputStream> unframingFactory = NetconfFraming.DelimitedMessageUnframer::new;
     private Function<OutputStream,OutputStream> framingFactory = NetconfFraming.DelimitedMessageFramer::new;
 
+    /**
+     * Listener for data nodes received by a streaming data retrieval operation
+     */
+    public interface DataListener {
+        /**
+         * Receive a batch of top-level data nodes while the reply is still being received.
+         *
+         * Top-level nodes with many children may be split across batches. In that case the first node of a batch is a
+         * shallow copy of the last node of the previous batch, holding the children received since.
+         *
+         * @param data      data element containing the top-level data nodes of this batch in a new document
+         * @param continued whether the first top-level node continues the last one of the previous batch
+         */
+        void onData(XMLElement data, boolean continued);
+
+        /**
+         * Receive the progress of the retrieval, called after each batch and once the data has been received.
+         * @param bytes   number of bytes of the reply received so far
+         * @param entries number of top-level data nodes and their direct children received so far
+         */
+        void onProgress(long bytes, long entries);
+
+        /**
+         * Check whether the reply may still grow, called whenever more of it was read from the stream.
+         * @param bytes number of bytes read since the last call
+         * @return whether to continue, otherwise receiving the reply fails
+         */
+        default boolean onReceived(int bytes) {
+            return true;
+        }
+
+        /**
+         * Get a writer the data nodes are written to directly from the stream instead of being handed out in
+         * batches, e.g. to keep a large reply on disk. Asked after each top-level data node and each of their
+         * children until a writer is returned, which then receives the rest of the reply including the batch
+         * not handed out yet.
+         * @param bytes number of bytes of the reply received so far
+         * @return the writer or null to continue handing out batches
+         * @throws IOException
+         */
+        default DataWriter getWriter(long bytes) throws IOException {
+            return null;
+        }
+    }
+
+    /**
+     * Writer for data nodes streamed from a reply, see DataListener.getWriter()
+     */
+    public interface DataWriter {
+        /**
+         * Write a batch of top-level data nodes as it would have been handed to DataListener.onData()
+         * @param data      data element containing the top-level data nodes of the batch
+         * @param continued whether the first top-level node continues the last one written before
+         * @throws IOException
+         */
+        void write(XMLElement data, boolean continued) throws IOException;
+
+        /**
+         * Start a data node, nested nodes are started before the node is ended
+         * @param element   element with the name, namespace declarations and attributes of the node, top-level
+         *                  nodes also declare the namespaces in scope of the reply
+         * @param continued whether the node is a top-level node continuing the last one written before
+         * @throws IOException
+         */
+        void startElement(Element element, boolean continued) throws IOException;
+
+        /**
+         * Write text of the data node started last
+         * @param text
+         * @throws IOException
+         */
+        void text(String text) throws IOException;
+
+        /**
+         * End the data node started last
+         * @throws IOException
+         */
+        void endElement() throws IOException;
+    }
+
     NetconfSession(NetconfClient client, InputStream input, OutputStream output, AutoCloseable closeableTransport) {
         this.client = client;
         this.inputStream = input;
@@ -54,6 +139,11 @@ public class NetconfSession implements AutoCloseable {
         this.closeableTransport = closeableTransport;
     }
 
+    // Permit of the scheduler for this session, released once the session is closed
+    void setSessionPermit(NetconfScheduler.Permit sessionPermit) {
+        this.sessionPermit = sessionPermit;
+    }
+
     void hello() throws NetconfException.ProtocolException {
         XMLElement peerHello = request(new XMLElement(NS_NETCONF, "hello")
                 .createChild("capabilities")
@@ -83,6 +173,23 @@ public class NetconfSession implements AutoCloseable {
         this.defaultsMode = defaultsMode;
     }
 
+    /**
+     * Set whether RPCs of this session count towards the rate limit of the scheduler, bulk operations like
+     * downloading all schemas at login are only limited in concurrency
+     * @param rateLimited
+     */
+    public void setRateLimited(boolean rateLimited) {
+        this.rateLimited = rateLimited;
+    }
+
+    /**
+     * Check whether RPCs of this session count towards the rate limit of the scheduler
+     * @return
+     */
+    public boolean isRateLimited() {
+        return rateLimited;
+    }
+
     /**
      * Add NCS-specific commit parameter
      * @param ncsCommitParameter
@@ -120,6 +227,18 @@ public class NetconfSession implements AutoCloseable {
         }
     }
 
+    // Receive one message, the content of the data element of an rpc-reply is handed to the listener if given
+    private synchronized XMLElement receive(DataListener listener) throws NetconfException.ProtocolException {
+        if (listener == null)
+            return receive();
+
+        try (InputStream messageInputStream = unframingFactory.apply(inputStream)) {
+            return new NetconfDataReceiver(messageInputStream, listener).receive();
+        } catch (IOException | XMLElement.XMLException e) {
+            throw new NetconfException.ProtocolException(e);
+        }
+    }
+
     /**
      * Set the consumer for notifications
      *
@@ -168,14 +287,26 @@ public class NetconfSession implements AutoCloseable {
      * @throws NetconfException RPCException with data supplied from the server or a ProtocolException indicating lower-level errors
      */
     public synchronized XMLElement call(XMLElement request) throws NetconfException {
+        return call(request, null);
+    }
+
+    // Send a RPC request and receive the reply, the content of a data element is handed to the listener if given
+    private synchronized XMLElement call(XMLElement request, DataListener listener) throws NetconfException {
         String rpcID = String.valueOf(++messageID);
         XMLElement call = new XMLElement(NS_NETCONF, "rpc").withAttribute("", "message-id", rpcID).withChild(request);
-        XMLElement reply = request(call);
-
-        while (reply.getNamespace().equals(NS_NETCONF_NOTIFICATION) && reply.getName().equals("notification")) {
-            if (notificationConsumer != null)
-                notificationConsumer.accept(reply);
-            reply = receive();
+        XMLElement reply;
+
+        // The scheduler of the client limits the RPCs running on the device at the same time
+        try (NetconfScheduler.Permit permit = client.getScheduler().acquireCall(client.getDevice(), client,
+                rateLimited)) {
+            send(call);
+            reply = receive(listener);
+
+            while (reply.getNamespace().equals(NS_NETCONF_NOTIFICATION) && reply.getName().equals("notification")) {
+                if (notificationConsumer != null)
+                    notificationConsumer.accept(reply);
+                reply = receive(listener);
+            }
         }
 
         if (callTraceConsumer != null)
@@ -192,6 +323,11 @@ public class NetconfSession implements AutoCloseable {
 
     private XMLElement get(Datastore datastore, Consumer<XMLElement> filter, String command)
             throws NetconfException {
+        return get(datastore, filter, command, null);
+    }
+
+    private XMLElement get(Datastore datastore, Consumer<XMLElement> filter, String command, DataListener listener)
+            throws NetconfException {
         // return call(new XMLElement(NS_NETCONF, datastore != null ? "get-config" : "get", gc -> {
         return call(new XMLElement(NS_NETCONF, command, gc -> {
                 if (datastore != null && command.equals("get-config")) {
@@ -204,7 +340,7 @@ public class NetconfSession implements AutoCloseable {
                 if (defaultsMode != null)
                     gc.withTextChild(NS_NETCONF_WITH_DEFAULTS, "with-defaults",
                             defaultsMode.name().toLowerCase().replace('_', '-'));
-        })).getFirst("data").orElseThrow(() -> new NetconfException("Missing data element in reply to <get>"));
+        }), listener).getFirst("data").orElseThrow(() -> new NetconfException("Missing data element in reply to <get>"));
     }
 
     /**
@@ -276,6 +412,161 @@ public class NetconfSession implements AutoCloseable {
         return get(null, null, "get");
     }
 
+    /**
+     * Perform a get-config operation using an XML subtree filter and stream the received data to a listener
+     * @param datastore     If non-null, perform a get-config operation on given datastore, otherwise perform a get
+     * @param subtreeFilter Subtree filter to apply remotely
+     * @param listener      Listener receiving the top-level data nodes while the reply is still being received
+     * @throws NetconfException RPCException or Protocol
+     */
+    public void getConfig(Datastore datastore, Iterable<XMLElement> subtreeFilter, String command,
+                          DataListener listener) throws NetconfException {
+        get(datastore, f -> f
+                .withAttribute("type", "subtree")
+                .withChildren(subtreeFilter), command, listener);
+    }
+
+    /**
+     * Perform a get-config operation without any filter and stream the received data to a listener
+     * @param datastore     If non-null, perform a get-config operation on given datastore, otherwise perform a get
+     * @param listener      Listener receiving the top-level data nodes while the reply is still being received
+     * @throws NetconfException RPCException or Protocol
+     */
+    public void getConfig(Datastore datastore, String command, DataListener listener) throws NetconfException {
+        get(datastore, null, command, listener);
+    }
+
+    /**
+     * Perform a get operation using an XML subtree filter and stream the received data to a listener
+     * @param subtreeFilter Subtree filter to apply remotely
+     * @param listener      Listener receiving the top-level data nodes while the reply is still being received
+     * @throws NetconfException RPCException or Protocol
+     */
+    public void get(Iterable<XMLElement> subtreeFilter, DataListener listener) throws NetconfException {
+        get(null, f -> f
+                .withAttribute("type", "subtree")
+                .withChildren(subtreeFilter), "get", listener);
+    }
+
+    /**
+     * Perform a get operation without any filter and stream the received data to a listener
+     * @param listener      Listener receiving the top-level data nodes while the reply is still being received
+     * @throws NetconfException RPCException or Protocol
+     */
+    public void get(DataListener listener) throws NetconfException {
+        get(null, null, "get", listener);
+    }
+
+    // Build an XPath filter declaring the namespace prefixes used by the expression
+    private static Consumer<XMLElement> xpathFilter(String xpathFilter, Map<String,String> namespaces) {
+        return f -> {
+            f.withAttribute("type", "xpath").withAttribute("select", xpathFilter);
+            namespaces.forEach((prefix, namespace) ->
+                    f.withAttribute(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, "xmlns:" + prefix, namespace));
+        };
+    }
+
+    /**
+     * Perform a get-config operation using an XPath filter and stream the received data to a listener
+     * @param datastore     If non-null, perform a get-config operation on given datastore, otherwise perform a get
+     * @param xpathFilter   XPath-filter to apply remotely
+     * @param namespaces    Namespaces by prefix used in the XPath-filter
+     * @param listener      Listener receiving the top-level data nodes while the reply is still being received
+     * @throws NetconfException RPCException or Protocol
+     */
+    public void getConfig(Datastore datastore, String xpathFilter, Map<String,String> namespaces, String command,
+                          DataListener listener) throws NetconfException {
+        get(datastore, xpathFilter(xpathFilter, namespaces), command, listener);
+    }
+
+    /**
+     * Perform a get operation using an XPath filter and stream the received data to a listener
+     * @param xpathFilter   XPath-filter to apply remotely
+     * @param namespaces    Namespaces by prefix used in the XPath-filter
+     * @param listener      Listener receiving the top-level data nodes while the reply is still being received
+     * @throws NetconfException RPCException or Protocol
+     */
+    public void get(String xpathFilter, Map<String,String> namespaces, DataListener listener) throws NetconfException {
+        get(null, xpathFilter(xpathFilter, namespaces), "get", listener);
+    }
+
+    private XMLElement getData(NmdaDatastore datastore, Consumer<XMLElement> filter, Boolean configFilter,
+                               Integer maxDepth, boolean withOrigin, DataListener listener) throws NetconfException {
+        return call(new XMLElement(NS_NETCONF_NMDA, "get-data", gd -> {
+                gd.createChild("datastore")
+                        .withAttribute(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, "xmlns:ds", NS_DATASTORES)
+                        .withText("ds:" + datastore.name().toLowerCase());
+
+                if (filter != null)
+                    filter.accept(gd);
+
+                if (configFilter != null)
+                    gd.withTextChild("config-filter", configFilter.toString());
+
+                if (maxDepth != null)
+                    gd.withTextChild("max-depth", maxDepth.toString());
+
+                if (withOrigin)
+                    gd.createChild("with-origin");
+
+                if (defaultsMode != null)
+                    gd.withTextChild(NS_NETCONF_WITH_DEFAULTS, "with-defaults",
+                            defaultsMode.name().toLowerCase().replace('_', '-'));
+        }), listener).getFirst(NS_NETCONF_NMDA, "data").orElseThrow(() ->
+                new NetconfException("Missing data element in reply to <get-data>"));
+    }
+
+    /**
+     * Perform an NMDA get-data operation (RFC 8526) using an XML subtree filter
+     * @param datastore     Datastore to retrieve data from
+     * @param subtreeFilter If non-null, subtree filter to apply remotely
+     * @param configFilter  If non-null, retrieve only configuration (true) or only non-configuration (false) data
+     * @param maxDepth      If non-null, number of levels of data nodes to retrieve starting with the selected ones
+     * @param withOrigin    Whether to annotate data of the operational datastore with its origin
+     * @return Data element of the rpc-reply
+     * @throws NetconfException RPCException or Protocol
+     */
+    public XMLElement getData(NmdaDatastore datastore, Iterable<XMLElement> subtreeFilter, Boolean configFilter,
+                              Integer maxDepth, boolean withOrigin) throws NetconfException {
+        return getData(datastore, (subtreeFilter == null) ? null : gd -> gd
+                .withChild("subtree-filter", f -> f.withChildren(subtreeFilter)),
+                configFilter, maxDepth, withOrigin, null);
+    }
+
+    /**
+     * Perform an NMDA get-data operation (RFC 8526) using an XPath filter
+     * @param datastore     Datastore to retrieve data from
+     * @param xpathFilter   If non-null, XPath filter to apply remotely
+     * @param configFilter  If non-null, retrieve only configuration (true) or only non-configuration (false) data
+     * @param maxDepth      If non-null, number of levels of data nodes to retrieve starting with the selected ones
+     * @param withOrigin    Whether to annotate data of the operational datastore with its origin
+     * @return Data element of the rpc-reply
+     * @throws NetconfException RPCException or Protocol
+     */
+    public XMLElement getData(NmdaDatastore datastore, String xpathFilter, Boolean configFilter,
+                              Integer maxDepth, boolean withOrigin) throws NetconfException {
+        return getData(datastore, (xpathFilter == null) ? null : gd -> gd
+                .withTextChild("xpath-filter", xpathFilter),
+                configFilter, maxDepth, withOrigin, null);
+    }
+
+    /**
+     * Perform an NMDA get-data operation (RFC 8526) using an XML subtree filter and stream the received data
+     * @param datastore     Datastore to retrieve data from
+     * @param subtreeFilter If non-null, subtree filter to apply remotely
+     * @param configFilter  If non-null, retrieve only configuration (true) or only non-configuration (false) data
+     * @param maxDepth      If non-null, number of levels of data nodes to retrieve starting with the selected ones
+     * @param withOrigin    Whether to annotate data of the operational datastore with its origin
+     * @param listener      Listener receiving the top-level data nodes while the reply is still being received
+     * @throws NetconfException RPCException or Protocol
+     */
+    public void getData(NmdaDatastore datastore, Iterable<XMLElement> subtreeFilter, Boolean configFilter,
+                        Integer maxDepth, boolean withOrigin, DataListener listener) throws NetconfException {
+        getData(datastore, (subtreeFilter == null) ? null : gd -> gd
+                .withChild("subtree-filter", f -> f.withChildren(subtreeFilter)),
+                configFilter, maxDepth, withOrigin, listener);
+    }
+
     /**
      * Perform an edit-config opetation on the given datastore.
      * @param datastore         Target datastore
@@ -609,6 +900,15 @@ public class NetconfSession implements AutoCloseable {
         return client;
     }
 
+    /**
+     * Check if a server supports the NMDA operations of RFC 8526, i.e. get-data
+     * @param capabilities capabilities of a session to the server
+     * @return
+     */
+    public static boolean isNmdaSupported(Map<String,String> capabilities) {
+        return capabilities.containsKey(CAP_YANG_LIBRARY_11) || capabilities.containsKey(NS_NETCONF_NMDA);
+    }
+
     /**
      * Get the capabilities as indicated by the server
      * @return Mapping of capability (without arguments) to capability arguments (URI query string)
@@ -633,6 +933,27 @@ public class NetconfSession implements AutoCloseable {
         return closed;
     }
 
+    /**
+     * Abort the current session without waiting for a pending operation, e.g. to cancel a retrieval from another thread.
+     *
+     * The underlying transport is closed, so the pending operation fails with a ProtocolException.
+     */
+    public void abort() {
+        closed = true;
+        try {
+            closeableTransport.close();
+        } catch (Exception e) {
+            // pass
+        } finally {
+            releaseSessionPermit();
+        }
+    }
+
+    private void releaseSessionPermit() {
+        if (sessionPermit != null)
+            sessionPermit.close();
+    }
+
     /**
      * Gracefully shutdown the current session
      * @throws NetconfException.ProtocolException
@@ -646,6 +967,8 @@ public class NetconfSession implements AutoCloseable {
                 closeableTransport.close();
             } catch (Exception e) {
                 throw new NetconfException.ProtocolException(e);
+            } finally {
+                releaseSessionPermit();
             }
         }
     }
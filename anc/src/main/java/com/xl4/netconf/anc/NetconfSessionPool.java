@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anc;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of sessions to a device which limits the number of sessions used concurrently.
+ *
+ * Idle sessions are reused for subsequent requests, sessions which were closed or aborted while in use are replaced.
+ * Idle sessions are registered with the scheduler of the client, which closes them if other sessions to the device
+ * would have to wait otherwise.
+ */
+public class NetconfSessionPool implements AutoCloseable, NetconfScheduler.IdleSessions {
+    // Maximum number of evicted sessions closed at the same time, further ones wait for their turn
+    private static final int MAX_EVICTING = 4;
+
+    private static final ExecutorService evictor = createEvictor();
+
+    private NetconfClient client;
+    private int maxSessions;
+    private Semaphore permits;
+    private Deque<NetconfSession> idle = new ArrayDeque<>();
+    private boolean closed;
+
+    /**
+     * Create a new pool
+     * @param client      client used to create sessions
+     * @param maxSessions maximum number of sessions in use at the same time
+     */
+    public NetconfSessionPool(NetconfClient client, int maxSessions) {
+        this.client = client;
+        this.maxSessions = maxSessions;
+        this.permits = new Semaphore(maxSessions, true);
+        client.getScheduler().addIdleSessions(client.getDevice(), this);
+    }
+
+    /**
+     * Get the maximum number of sessions in use at the same time
+     * @return
+     */
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * Take a session from the pool, waiting until one is available if the limit is reached
+     * @return session which needs to be given back using release()
+     * @throws NetconfException
+     * @throws InterruptedException
+     */
+    public NetconfSession acquire() throws NetconfException, InterruptedException {
+        permits.acquire();
+        try {
+            synchronized (this) {
+                if (closed)
+                    throw new NetconfException("Session pool is closed");
+
+                while (!idle.isEmpty()) {
+                    NetconfSession session = idle.pop();
+                    if (!session.isClosed())
+                        return session;
+                }
+            }
+            return client.createSession();
+        } catch (NetconfException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Give a session back to the pool
+     * @param session session returned by acquire()
+     */
+    public void release(NetconfSession session) {
+        // Idle sessions are not kept while others wait for the device
+        boolean contended = client.getScheduler().isContended(client.getDevice());
+
+        boolean close;
+        synchronized (this) {
+            close = closed || session.isClosed() || contended;
+            if (!close)
+                idle.push(session);
+        }
+
+        if (close)
+            closeSession(session);
+        permits.release();
+    }
+
+    private static ExecutorService createEvictor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_EVICTING, MAX_EVICTING, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "anc-evict");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Close an idle session in the background, called by the scheduler
+     * @return whether there was an idle session
+     */
+    @Override
+    public boolean evict() {
+        NetconfSession session;
+        synchronized (this) {
+            session = idle.pollLast();
+        }
+        if (session == null)
+            return false;
+
+        // The scheduler calls this while holding its lock, closing the session needs to send a RPC
+        evictor.execute(() -> closeSession(session));
+        return true;
+    }
+
+    private static void closeSession(NetconfSession session) {
+        try {
+            if (!session.isClosed())
+                session.close();
+        } catch (NetconfException e) {
+            // pass
+        }
+    }
+
+    /**
+     * Close all idle sessions, sessions still in use are closed once they are released
+     */
+    @Override
+    public void close() {
+        Deque<NetconfSession> sessions;
+        synchronized (this) {
+            closed = true;
+            sessions = idle;
+            idle = new ArrayDeque<>();
+        }
+        client.getScheduler().removeIdleSessions(client.getDevice(), this);
+        sessions.forEach(NetconfSessionPool::closeSession);
+    }
+}
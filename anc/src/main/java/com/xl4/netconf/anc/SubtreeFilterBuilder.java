@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anc;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Builder merging subtree filters into the smallest equivalent filter.
+ *
+ * Filters are merged into a tree of nodes identified by namespace, name and content match nodes (e.g. list keys),
+ * so shared ancestors are only included once. A selection node selects the whole subtree and thus replaces any
+ * other filter for nodes below it.
+ */
+public class SubtreeFilterBuilder {
+    private Map<String,Node> roots = new LinkedHashMap<>();
+
+    private static class Node {
+        private String namespace;
+        private String name;
+        private List<XMLElement> matches;
+        private boolean selection;
+        private Map<String,Node> children = new LinkedHashMap<>();
+
+        Node(String namespace, String name, List<XMLElement> matches) {
+            this.namespace = namespace;
+            this.name = name;
+            this.matches = matches;
+        }
+    }
+
+    /**
+     * Add a filter
+     * @param filter top-level filter element, e.g. created from a schema node template
+     * @return
+     */
+    public SubtreeFilterBuilder add(XMLElement filter) {
+        add(roots, filter);
+        return this;
+    }
+
+    /**
+     * Add multiple filters
+     * @param filters top-level filter elements
+     * @return
+     */
+    public SubtreeFilterBuilder addAll(Iterable<XMLElement> filters) {
+        for (XMLElement filter: filters)
+            add(roots, filter);
+        return this;
+    }
+
+    // Content match nodes are leafs with a non-whitespace value
+    private static boolean isContentMatch(XMLElement element) {
+        return !element.stream().findAny().isPresent() && !element.getText().trim().isEmpty();
+    }
+
+    private static void add(Map<String,Node> nodes, XMLElement element) {
+        List<XMLElement> children = element.stream().collect(Collectors.toList());
+        List<XMLElement> matches = children.stream().filter(SubtreeFilterBuilder::isContentMatch)
+                .sorted(Comparator.comparing(x -> x.getNamespace() + " " + x.getName() + " " + x.getText().trim()))
+                .collect(Collectors.toList());
+
+        // Filter nodes matching different content are kept separate
+        String key = element.getNamespace() + " " + element.getName() + matches.stream()
+                .map(x -> "\n" + x.getNamespace() + " " + x.getName() + " " + x.getText().trim())
+                .collect(Collectors.joining());
+
+        Node node = nodes.computeIfAbsent(key, x -> new Node(element.getNamespace(), element.getName(), matches));
+        if (node.selection)
+            return;
+
+        // Selection nodes and content match nodes without siblings select the whole subtree
+        if (children.size() == matches.size()) {
+            node.selection = true;
+            node.children.clear();
+            return;
+        }
+
+        for (XMLElement child: children)
+            if (!isContentMatch(child))
+                add(node.children, child);
+    }
+
+    /**
+     * Build the merged filter
+     * @return top-level filter elements
+     */
+    public List<XMLElement> build() {
+        List<XMLElement> filters = new ArrayList<>();
+        for (Node node: roots.values())
+            filters.add(build(node, null));
+        return filters;
+    }
+
+    private static XMLElement build(Node node, XMLElement parent) {
+        XMLElement element = (parent == null) ? new XMLElement(node.namespace, node.name) :
+                parent.createChild(node.namespace, node.name);
+        for (XMLElement match: node.matches)
+            element.withTextChild(match.getNamespace(), match.getName(), match.getText().trim());
+        for (Node child: node.children.values())
+            build(child, element);
+        return element;
+    }
+}
@@ -819,6 +819,16 @@ public class XMLElement implements Iterable<XMLElement>, Cloneable {
         return new XMLElement((Element)element.cloneNode(true));
     }
 
+    /**
+     * Create a deep copy of this element in a new document, e.g. to hand data to another thread.
+     * @return copy of the element
+     */
+    public XMLElement copy() {
+        Document document = createBuilder().newDocument();
+        document.appendChild(document.importNode(element, true));
+        return new XMLElement(document.getDocumentElement());
+    }
+
     public NodeList getChildNodes() {
         return element.getChildNodes();
     }
@@ -0,0 +1,483 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.xl4.netconf.anc.Netconf;
+import com.xl4.netconf.anc.NetconfException;
+import com.xl4.netconf.anc.NetconfSession;
+import com.xl4.netconf.anc.NetconfSessionPool;
+import com.xl4.netconf.anc.XMLElement;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retrieval of data for a selection of schema nodes.
+ *
+ * Subtree filters are grouped by their top-level node and each group is retrieved with a separate request, running
+ * concurrently over the sessions of a pool. A group the device refuses to send operational data for falls back to
+ * configuration data, failures of other groups only leave out their data.
+ *
+ * Devices supporting NMDA are queried using get-data with a limited depth, so only the selected nodes and their
+ * children are retrieved and nodes further down are retrieved once they are expanded.
+ *
+ * Search terms may be handed to devices supporting XPath, the data is then retrieved with a single XPath filter
+ * instead. If the device rejects the filter, the data is retrieved as usual and filtered by the client.
+ *
+ * Retrievals whose replies exceed a size limit are aborted as soon as the limit is reached. Data which would not fit
+ * into the memory budget is written to disk while it is received instead of being kept on the heap.
+ */
+class DataRetriever {
+    // Number of levels of data nodes retrieved with get-data, starting with the selected ones
+    static final int SHALLOW_DEPTH = 2;
+
+    // Size in bytes of all replies of a retrieval after which it is aborted
+    static final long MAX_REPLY_SIZE = Math.min(256L << 20, Runtime.getRuntime().maxMemory() / 8);
+
+    private NetconfSessionPool pool;
+    private Netconf.Datastore source;
+    private String command;
+    private boolean nmda;
+    private XPathSearch search;
+    private volatile boolean searchRejected;
+    private Set<NetconfSession> sessions = Collections.synchronizedSet(new HashSet<>());
+    private List<String> fallbacks = Collections.synchronizedList(new ArrayList<>());
+    private Map<String,NetconfException> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile boolean cancelled;
+    private volatile boolean oversized;
+    private AtomicLong received = new AtomicLong();
+    private MemoryBudget memoryBudget;
+    private volatile boolean spilling;
+    private SpilledData.Writer spillWriter;
+    private SpilledData spilled;
+
+    /**
+     * Create a new retriever
+     * @param pool    session pool of the device
+     * @param source  datastore for get-config or null for operational data
+     * @param command command used to retrieve configuration data
+     * @param nmda    whether the device supports get-data
+     */
+    DataRetriever(NetconfSessionPool pool, Netconf.Datastore source, String command, boolean nmda) {
+        this.pool = pool;
+        this.source = source;
+        this.command = command;
+        this.nmda = nmda;
+    }
+
+    /**
+     * Get the operation used for retrieving data including its parameters, e.g. to identify cached data
+     * @return
+     */
+    String getCommand() {
+        if (search != null)
+            return (source == null ? "get" : command) + " " + search.getExpression();
+        return nmda ? "get-data " + getDatastore().name().toLowerCase() + " " + SHALLOW_DEPTH :
+                (source == null ? "get" : command);
+    }
+
+    /**
+     * Check whether nodes at the depth limit are retrieved without their children
+     * @return
+     */
+    boolean isShallow() {
+        return nmda && search == null;
+    }
+
+    /**
+     * Let the device apply search terms, matching subtrees are retrieved completely
+     * @param search search filter scoped to the selected nodes
+     */
+    void setSearch(XPathSearch search) {
+        this.search = search;
+    }
+
+    /**
+     * Check whether the device rejected the search filter so all selected data was retrieved instead
+     * @return
+     */
+    boolean isSearchRejected() {
+        return searchRejected;
+    }
+
+    /**
+     * Write the data to disk while it is received once it no longer fits into a memory budget
+     * @param memoryBudget budget of the view keeping the data
+     */
+    void setMemoryBudget(MemoryBudget memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Get the data written to disk by the last retrieval, its ownership is handed to the caller
+     * @return the data or null if it was kept on the heap
+     */
+    SpilledData getSpilled() {
+        SpilledData result = spilled;
+        spilled = null;
+        return result;
+    }
+
+    // The get operation returns operational data, get-config the configuration of the given datastore
+    private Netconf.NmdaDatastore getDatastore() {
+        return (source == null || !command.equals("get-config")) ? Netconf.NmdaDatastore.OPERATIONAL :
+                Netconf.NmdaDatastore.valueOf(source.name());
+    }
+
+    /**
+     * Retrieve data while handing received data nodes to a listener
+     * @param subtreeFilter top-level filter elements or an empty list for all data
+     * @param listener      listener adopting the received data nodes
+     * @return copy of all retrieved data or null if it was written to disk, see getSpilled()
+     * @throws NetconfException if no data could be retrieved at all or the replies exceed the size limit
+     * @throws InterruptedException
+     */
+    XMLElement retrieve(List<XMLElement> subtreeFilter, NetconfSession.DataListener listener)
+            throws NetconfException, InterruptedException {
+        XMLElement collected = null;
+        try {
+            collected = retrieveGroups(subtreeFilter, listener);
+
+            // Data nodes collected before the retrieval switched to disk are written as well
+            synchronized (this) {
+                if (spillWriter != null) {
+                    spillWriter.open().write(collected, false);
+                    spilled = spillWriter.finish();
+                    return null;
+                }
+            }
+        } catch (NetconfException | InterruptedException e) {
+            if (!oversized)
+                throw e;
+        } catch (IOException e) {
+            throw new NetconfException(e);
+        } finally {
+            synchronized (this) {
+                if (spillWriter != null)
+                    spillWriter.close();
+                spillWriter = null;
+            }
+        }
+
+        if (oversized)
+            throw new NetconfException(String.format("The data exceeds the limit of %d MiB and was not retrieved " +
+                    "completely, please select fewer schema nodes", MAX_REPLY_SIZE >> 20));
+        return collected;
+    }
+
+    // Count the bytes of all replies and abort the retrieval once they exceed the limit
+    private boolean onReceived(int bytes) {
+        if (received.addAndGet(bytes) <= MAX_REPLY_SIZE)
+            return true;
+
+        if (!oversized) {
+            oversized = true;
+            cancel();
+        }
+        return false;
+    }
+
+    // Switch to disk once the data received so far would exceed the threshold or the memory budget
+    private NetconfSession.DataWriter getWriter(XMLElement collected) throws IOException {
+        if (!spilling && memoryBudget != null) {
+            long weight = MemoryBudget.estimateWeight(received.get());
+            spilling = weight > SpilledData.THRESHOLD || !memoryBudget.isAvailable(weight);
+        }
+        if (!spilling)
+            return null;
+
+        // The data nodes collected so far are written first and dropped from the heap
+        SpilledData.Stream stream;
+        synchronized (this) {
+            if (spillWriter == null)
+                spillWriter = new SpilledData.Writer();
+            stream = spillWriter.open();
+        }
+        synchronized (collected) {
+            stream.write(collected, false);
+            while (collected.getElement().hasChildNodes())
+                collected.getElement().removeChild(collected.getElement().getFirstChild());
+        }
+        return stream;
+    }
+
+    // Retrieve the data of each group of filters with a separate request
+    private XMLElement retrieveGroups(List<XMLElement> subtreeFilter, NetconfSession.DataListener listener)
+            throws NetconfException, InterruptedException {
+        // Top-level nodes of the same name but different namespaces are separate groups
+        Map<String,List<XMLElement>> groups = new LinkedHashMap<>();
+        for (XMLElement filter: subtreeFilter)
+            groups.computeIfAbsent(filter.getName() + " (" + filter.getNamespace() + ")", x -> new ArrayList<>())
+                    .add(filter);
+
+        XMLElement collected = new XMLElement(Netconf.NS_NETCONF, "data");
+
+        // A single request streams its data nodes to the listener as they arrive, searches are a single request
+        if (groups.size() <= 1 || search != null) {
+            retrieveGroup(subtreeFilter, new NetconfSession.DataListener() {
+                @Override
+                public void onData(XMLElement data, boolean continued) {
+                    XMLTreeProvider.merge(collected, data.copy(), continued);
+                    listener.onData(data, continued);
+                }
+
+                @Override
+                public void onProgress(long bytes, long entries) {
+                    listener.onProgress(bytes, entries);
+                }
+
+                @Override
+                public boolean onReceived(int bytes) {
+                    return DataRetriever.this.onReceived(bytes);
+                }
+
+                @Override
+                public NetconfSession.DataWriter getWriter(long bytes) throws IOException {
+                    return DataRetriever.this.getWriter(collected);
+                }
+            });
+            return collected;
+        }
+
+        // Concurrent requests hand out their data once complete, as batches of different requests can't be merged.
+        // They run on the threads of the job service, the session pool limits how many run at the same time.
+        long[][] progress = new long[groups.size()][2];
+        List<FutureTask<Void>> tasks = new ArrayList<>();
+        Executor executor = JobService.getInstance().getExecutor();
+        int index = 0;
+        for (Map.Entry<String,List<XMLElement>> group: groups.entrySet()) {
+            int slot = index++;
+            FutureTask<Void> task = new FutureTask<>(() -> {
+                if (cancelled)
+                    return;
+
+                XMLElement data = new XMLElement(Netconf.NS_NETCONF, "data");
+                try {
+                    retrieveGroup(group.getValue(), new NetconfSession.DataListener() {
+                        @Override
+                        public void onData(XMLElement batch, boolean continued) {
+                            XMLTreeProvider.merge(data, batch, continued);
+                        }
+
+                        @Override
+                        public void onProgress(long bytes, long entries) {
+                            synchronized (progress) {
+                                progress[slot][0] = bytes;
+                                progress[slot][1] = entries;
+                                listener.onProgress(Arrays.stream(progress).mapToLong(x -> x[0]).sum(),
+                                        Arrays.stream(progress).mapToLong(x -> x[1]).sum());
+                            }
+                        }
+
+                        @Override
+                        public boolean onReceived(int bytes) {
+                            return DataRetriever.this.onReceived(bytes);
+                        }
+
+                        @Override
+                        public NetconfSession.DataWriter getWriter(long bytes) throws IOException {
+                            return DataRetriever.this.getWriter(data);
+                        }
+                    });
+                } catch (NetconfException | InterruptedException e) {
+                    if (!cancelled)
+                        failures.put(group.getKey(), e instanceof NetconfException ?
+                                (NetconfException)e : new NetconfException(e));
+                }
+
+                // Data received before a failure or cancellation is still shown
+                if (data.getElement().hasChildNodes()) {
+                    synchronized (collected) {
+                        XMLTreeProvider.merge(collected, data.copy(), false);
+                        listener.onData(data, false);
+                    }
+                }
+            }, null);
+            tasks.add(task);
+
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // Run by this thread below
+            }
+        }
+
+        try {
+            for (FutureTask<Void> task: tasks) {
+                // Requests which did not get a thread yet are run by this one, as all threads may be busy with jobs
+                task.run();
+                try {
+                    task.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException)
+                        throw (RuntimeException)e.getCause();
+                    throw new NetconfException(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            cancel();
+            throw e;
+        }
+
+        if (failures.size() == groups.size())
+            throw failures.values().iterator().next();
+        return collected;
+    }
+
+    /**
+     * Retrieve the complete content of a single data node, e.g. a list entry of which only the keys were retrieved
+     * @param filter subtree filter selecting the node, each ancestor has a single child other than content matches
+     * @return the node unless it does not exist anymore
+     * @throws NetconfException
+     * @throws InterruptedException
+     */
+    Optional<XMLElement> retrieveNode(XMLElement filter) throws NetconfException, InterruptedException {
+        XMLElement data = new XMLElement(Netconf.NS_NETCONF, "data");
+        retrieveGroup(Collections.singletonList(filter), new NetconfSession.DataListener() {
+            @Override
+            public void onData(XMLElement batch, boolean continued) {
+                XMLTreeProvider.merge(data, batch, continued);
+            }
+
+            @Override
+            public void onProgress(long bytes, long entries) {
+            }
+        });
+
+        // Follow the path given by the filter, content matches restrict each list to the entry on the path
+        XMLElement node = data;
+        for (XMLElement step = filter; step != null && node != null; step = step.stream()
+                .filter(x -> x.stream().findAny().isPresent() || x.getText().trim().isEmpty())
+                .findFirst().orElse(null))
+            node = node.getFirst(step.getNamespace(), step.getName()).orElse(null);
+        return Optional.ofNullable(node);
+    }
+
+    // Whether the device refused the XPath filter itself rather than failing the request
+    private static boolean isFilterRejected(NetconfException.RPCException e) {
+        return e.getRPCReply().stream("rpc-error").anyMatch(error -> {
+            String tag = error.getText("error-tag").trim();
+            if (tag.equals("operation-not-supported"))
+                return true;
+
+            XMLElement info = error.getFirst("error-info").orElse(null);
+            String element = info != null ? info.getText("bad-element").trim() : "";
+            String attribute = info != null ? info.getText("bad-attribute").trim() : "";
+            return (tag.equals("invalid-value") || tag.equals("bad-attribute") || tag.equals("unknown-attribute"))
+                    && (element.equals("filter") || attribute.equals("type") || attribute.equals("select"));
+        });
+    }
+
+    // Retrieve the data of a group of filters with a single request
+    private void retrieveGroup(List<XMLElement> subtreeFilter, NetconfSession.DataListener listener)
+            throws NetconfException, InterruptedException {
+        NetconfSession session = pool.acquire();
+        sessions.add(session);
+        try {
+            if (cancelled)
+                session.abort();
+
+            // Search terms are applied by the device unless it rejects the XPath filter
+            if (search != null) {
+                try {
+                    if (source == null)
+                        session.get(search.getExpression(), search.getNamespaces(), listener);
+                    else
+                        session.getConfig(source, search.getExpression(), search.getNamespaces(), command, listener);
+                    return;
+                } catch (NetconfException.RPCException e) {
+                    if (!isFilterRejected(e))
+                        throw e;
+
+                    e.printStackTrace();
+                    searchRejected = true;
+                }
+            }
+
+            // Query peer using NETCONF to retrieve current data using get-data, get or get-config
+            if (isShallow()) {
+                try {
+                    session.getData(getDatastore(), subtreeFilter.isEmpty() ? null : subtreeFilter,
+                            null, SHALLOW_DEPTH, false, listener);
+                } catch (NetconfException.RPCException e) {
+                    if (getDatastore() != Netconf.NmdaDatastore.OPERATIONAL)
+                        throw e;
+
+                    e.printStackTrace();
+                    fallbacks.add(subtreeFilter.isEmpty() ? "all data" : subtreeFilter.get(0).getName());
+                    session.getData(Netconf.NmdaDatastore.RUNNING, subtreeFilter.isEmpty() ? null : subtreeFilter,
+                            null, SHALLOW_DEPTH, false, listener);
+                }
+            } else if (source == null) {
+                try {
+                    if (subtreeFilter.isEmpty())
+                        session.get(listener);
+                    else
+                        session.get(subtreeFilter, listener);
+                } catch (NetconfException.RPCException e) {
+                    e.printStackTrace();
+                    fallbacks.add(subtreeFilter.isEmpty() ? "all data" : subtreeFilter.get(0).getName());
+                    if (subtreeFilter.isEmpty())
+                        session.getConfig(Netconf.Datastore.RUNNING, command, listener);
+                    else
+                        session.getConfig(Netconf.Datastore.RUNNING, subtreeFilter, command, listener);
+                }
+            } else if (subtreeFilter.isEmpty()) {
+                session.getConfig(source, command, listener);
+            } else {
+                session.getConfig(source, subtreeFilter, command, listener);
+            }
+        } finally {
+            sessions.remove(session);
+            pool.release(session);
+        }
+    }
+
+    /**
+     * Cancel the retrieval by aborting all requests in progress
+     */
+    void cancel() {
+        cancelled = true;
+        synchronized (sessions) {
+            sessions.forEach(NetconfSession::abort);
+        }
+    }
+
+    /**
+     * Get the top-level nodes for which only configuration data was retrieved as the device refused to send
+     * operational data
+     * @return
+     */
+    List<String> getFallbacks() {
+        return fallbacks;
+    }
+
+    /**
+     * Get the failures of requests for individual top-level nodes while others succeeded
+     * @return failures by name and namespace of the top-level node
+     */
+    Map<String,NetconfException> getFailures() {
+        return failures;
+    }
+}
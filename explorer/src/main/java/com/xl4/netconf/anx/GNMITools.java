@@ -20,19 +20,19 @@ package com.xl4.netconf.anx;
 
 import com.xl4.netconf.grpc.GRPCClient;
 import com.xl4.netconf.grpc.GNMI;
+import com.xl4.netconf.grpc.TelemetryStore;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.util.JsonFormat;
 import com.xl4.netconf.grpc.GRPCClient.GRPCException;
-import com.xl4.netconf.grpc.GRPCClient.GRPCClientSecurity;
 import com.xl4.netconf.anc.*;
+import com.vaadin.data.provider.DataProvider;
 import com.vaadin.icons.VaadinIcons;
 import com.vaadin.ui.*;
 import com.vaadin.ui.themes.ValoTheme;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-import javax.net.ssl.SSLHandshakeException;
 
 /**
  * GNMI support tools 
@@ -42,6 +42,9 @@ public class GNMITools {
     private static final String NS_EMS = "http://cisco.com/ns/yang/Cisco-IOS-XR-man-ems-cfg";
     private TextField path;
 
+    // Number of latest notifications kept per subscription
+    private static final int MAX_SAMPLES = 1000;
+
     GNMITools(MainView view) {
         this.view = view;
     }
@@ -86,18 +89,34 @@ public class GNMITools {
     private void showSubscribe(int port, String path, String interval) {
         List<String> paths = Arrays.asList(path + "@" + interval);
         VerticalLayout liveLayout = new VerticalLayout();
-        ComboBox<GNMI.Notification> measurements = new ComboBox<>("Measurement");
         TextArea data = new TextArea("GNMI Data (JSON format)");
         data.setReadOnly(true);
         data.setValue("Waiting for first measurement...");
         data.setSizeFull();
 
+        // Only the rows in view are fetched from the buffer, newest first
+        RingBuffer<GNMI.Notification> samples = new RingBuffer<>(MAX_SAMPLES);
+
+        // Numeric values of all notifications are kept as time series
+        TelemetryStore store = new TelemetryStore();
+        SeriesGrid series = new SeriesGrid("Numeric leafs", store);
+        series.setSizeFull();
+        TabSheet details = new TabSheet();
+        details.addTab(data, "Message");
+        details.addTab(series, "Time series");
+        details.setSizeFull();
+        Grid<GNMI.Notification> measurements = new Grid<>("Measurements");
+        measurements.setDataProvider(DataProvider.fromCallbacks(
+                query -> samples.getNewest(query.getOffset(), query.getLimit()), query -> samples.size()));
+        measurements.addColumn(x -> String.format("%tT", x.getTimestamp() / 1000000)).setCaption("Time")
+                .setWidth(120);
+        measurements.addColumn(x -> GRPCClient.formatGNMIPath(x.getPrefix())).setCaption("Prefix");
         measurements.setWidth("100%");
-        measurements.setEmptySelectionAllowed(false);
-        measurements.setTextInputAllowed(false);
-        measurements.setItemCaptionGenerator(x -> String.format("[%tT] %s",
-                x.getTimestamp() / 1000000, GRPCClient.formatGNMIPath(x.getPrefix())));
-        measurements.addValueChangeListener(x -> {
+        measurements.setHeight("250px");
+        measurements.asSingleSelect().addValueChangeListener(x -> {
+            if (x.getValue() == null)
+                return;
+
             try {
                 data.setValue(JsonFormat.printer().preservingProtoFieldNames().print(x.getValue()));
             } catch (InvalidProtocolBufferException e) {
@@ -105,33 +124,41 @@ public class GNMITools {
             }
         });
 
-        GRPCClient tlsClient = new GRPCClient(view.host, port,
-                view.username, view.password, GRPCClientSecurity.TLS_UNVERIFIED);
-        GRPCClient plainClient = new GRPCClient(view.host, port,
-                view.username, view.password, GRPCClientSecurity.PLAINTEXT);
-
-        LinkedList<GNMI.Notification> telemetryData = new LinkedList<>();
-        Consumer<GNMI.Notification> telemetryConsumer = x -> view.getUI().access(() -> {
-            telemetryData.add(x);
-            measurements.setItems(telemetryData);
+        // Notifications arriving between two updates of the UI are shown at once
+        PushCoalescer coalescer = PushCoalescer.get(view.getUI());
+        RecordingToggle record = new RecordingToggle("gnmi-" + path);
+        AtomicReference<TelemetryHub.Viewer> viewer = new AtomicReference<>();
+        Consumer<GNMI.Notification> sampleConsumer = x -> {
+            samples.add(x);
+            store.add(x);
+            coalescer.update(samples, () -> {
+                measurements.getDataProvider().refreshAll();
+                if (details.getSelectedTab() == series)
+                    series.refresh();
+                measurements.setCaption(String.format("Measurements (latest %d of %d, %d dropped, %d viewers)",
+                        samples.size(), samples.getTotal(), viewer.get().getDropped(), viewer.get().getViewers()));
+                if (measurements.getSelectedItems().isEmpty())
+                    samples.getNewest(0, 1).findAny().ifPresent(measurements::select);
+            });
+        };
 
-            if (telemetryData.size() == 1)
-                measurements.setValue(telemetryData.get(0));
-        });
-        Consumer<Throwable> shutdownConsumer = new Consumer<Throwable>() {
-			@Override
-			public void accept(Throwable t) {
-                if (t instanceof GRPCException) {
-                    Notification.show("Subscription error: " + t.getMessage());
-                } else if (t != null && t.getCause() instanceof SSLHandshakeException) {
-                    plainClient.subscribeRequest(paths, telemetryConsumer, this);
-                } else if (t != null) {
-                    t.printStackTrace();
-                }	
-			}
+        // Live notifications are still recorded while a recording is replayed, but not shown
+        ReplayControl replay = new ReplayControl("gnmi-" + path, x -> x.withGNMIConsumer(sampleConsumer));
+        Consumer<GNMI.Notification> telemetryConsumer = x -> {
+            TelemetryRecorder recorder = record.getRecorder();
+            if (recorder != null)
+                recorder.recordGNMI(x);
+            if (!replay.isReplaying())
+                sampleConsumer.accept(x);
+        };
+        Consumer<Throwable> errorConsumer = t -> {
+            if (!(t instanceof GRPCException))
+                t.printStackTrace();
+            coalescer.update(t, () -> Notification.show("Subscription error: " + t.getMessage()));
         };
 
-        tlsClient.subscribeRequest(paths, telemetryConsumer, shutdownConsumer);
+        // Viewers of the same paths on the device share one subscription
+        viewer.set(TelemetryHub.getInstance().subscribeGNMI(view, port, paths, telemetryConsumer, errorConsumer));
 
         Window liveWindow = new Window("GNMI data: ".concat(path));
         liveWindow.setModal(true);
@@ -140,13 +167,15 @@ public class GNMITools {
         liveWindow.setWidth("1000px");
         liveWindow.setHeight("700px");
         liveWindow.addCloseListener(c -> {
-            try {
-                tlsClient.close();
-                plainClient.close();
-            } catch (Exception e) {}
+            record.stop();
+            replay.stop();
+            viewer.get().close();
         });
-        liveLayout.addComponents(measurements, data);
-        liveLayout.setExpandRatio(data, 1.0f);
+        details.addSelectedTabChangeListener(x -> series.refresh());
+        HorizontalLayout controls = new HorizontalLayout(record, replay);
+        controls.setDefaultComponentAlignment(Alignment.MIDDLE_LEFT);
+        liveLayout.addComponents(controls, measurements, details);
+        liveLayout.setExpandRatio(details, 1.0f);
         liveLayout.setSizeFull();
         liveWindow.setContent(liveLayout);
         UI.getCurrent().addWindow(liveWindow);
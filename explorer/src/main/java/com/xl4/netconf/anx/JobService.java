@@ -0,0 +1,295 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.vaadin.ui.UI;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Background jobs for device operations, running on an executor shared by all UI sessions.
+ *
+ * A job submitted while another one with the same key is still running joins that one instead, e.g. when two users
+ * log in to the same device at the same time. UIs subscribe to the progress and the result of a job, which are
+ * delivered through the PushCoalescer of the UI so listeners may update components right away. A job is cancelled
+ * once all of its subscriptions are cancelled.
+ */
+class JobService {
+    // Maximum number of jobs running at the same time and waiting to be run
+    private static final int MAX_RUNNING = 16;
+    private static final int MAX_QUEUED = 256;
+
+    private static final JobService instance = new JobService(MAX_RUNNING, MAX_QUEUED);
+
+    private ThreadPoolExecutor executor;
+    private Map<Object,Job<?>> running = new HashMap<>();
+
+    /**
+     * Work done by a job
+     */
+    interface Task<T> {
+        T run(Job<T> job) throws Exception;
+    }
+
+    /**
+     * Subscription of a UI to a job
+     */
+    interface Subscription {
+        void cancel();
+    }
+
+    JobService(int maxRunning, int maxQueued) {
+        executor = new ThreadPoolExecutor(maxRunning, maxRunning, 1, TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(maxQueued), runnable -> {
+                    Thread thread = new Thread(runnable, "anx-job");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    static JobService getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the executor running the jobs, e.g. for requests a job issues concurrently. Work submitted by a job may not
+     * get a thread while all of them are busy, so the job needs to be able to run it on its own thread instead.
+     * @return
+     */
+    Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Run a job in the background or join the job with the same key if it is still running
+     * @param key  identifies jobs doing the same work or null if the job is not shared
+     * @param task
+     * @return the job, which fails right away if too many jobs are waiting to be run already
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <T> Job<T> submit(Object key, Task<T> task) {
+        Job<?> existing = (key != null) ? running.get(key) : null;
+        if (existing != null)
+            return (Job<T>)existing;
+
+        Job<T> job = new Job<>(key, task);
+        try {
+            job.future = executor.submit(job::execute);
+        } catch (RejectedExecutionException e) {
+            job.done = true;
+            job.error = new RejectedExecutionException("Too many operations in progress, please try again later", e);
+            return job;
+        }
+
+        if (key != null)
+            running.put(key, job);
+        return job;
+    }
+
+    // Jobs are only joined while running, later submissions start over
+    private synchronized void finished(Job<?> job) {
+        if (job.key != null)
+            running.remove(job.key, job);
+    }
+
+    /**
+     * Job running in the background
+     */
+    class Job<T> {
+        private Object key;
+        private Task<T> task;
+        private volatile Future<?> future;
+        private List<Subscriber> subscribers = new ArrayList<>();
+        private double progress = -1;
+        private String message;
+        private boolean started;
+        private boolean done;
+        private boolean cancelled;
+        private T result;
+        private Exception error;
+
+        private class Subscriber implements Subscription {
+            private UI ui;
+            private BiConsumer<Double,String> onProgress;
+            private Consumer<T> onSuccess;
+            private Consumer<Exception> onFailure;
+
+            Subscriber(UI ui, BiConsumer<Double,String> onProgress, Consumer<T> onSuccess,
+                    Consumer<Exception> onFailure) {
+                this.ui = ui;
+                this.onProgress = onProgress;
+                this.onSuccess = onSuccess;
+                this.onFailure = onFailure;
+            }
+
+            // Run a callback within the UI unless the subscription was cancelled or the UI is gone, callbacks with
+            // the same key replace each other if the UI did not catch up yet
+            void deliver(Object key, Runnable callback) {
+                if (!ui.isAttached()) {
+                    cancel();
+                    return;
+                }
+
+                PushCoalescer.get(ui).update(key, () -> {
+                    if (isSubscribed(this))
+                        callback.run();
+                });
+            }
+
+            @Override
+            public void cancel() {
+                unsubscribe(this);
+            }
+        }
+
+        private Job(Object key, Task<T> task) {
+            this.key = key;
+            this.task = task;
+        }
+
+        private void execute() {
+            synchronized (this) {
+                if (done)
+                    return;
+                started = true;
+            }
+
+            T result = null;
+            Exception error = null;
+            try {
+                result = task.run(this);
+            } catch (Exception e) {
+                error = e;
+            }
+
+            List<Subscriber> notify;
+            synchronized (this) {
+                this.done = true;
+                this.result = result;
+                this.error = error;
+                notify = new ArrayList<>(subscribers);
+            }
+
+            finished(this);
+            notify.forEach(this::deliverResult);
+        }
+
+        private void deliverResult(Subscriber subscriber) {
+            // Queued after any progress, so the result is always handled last
+            if (error == null)
+                subscriber.deliver(new Object(), () -> subscriber.onSuccess.accept(result));
+            else if (subscriber.onFailure != null)
+                subscriber.deliver(new Object(), () -> subscriber.onFailure.accept(error));
+        }
+
+        /**
+         * Report the progress of the job to all subscribers
+         * @param progress fraction of the work done or a negative value if unknown
+         * @param message  description of the current step
+         */
+        void progress(double progress, String message) {
+            List<Subscriber> notify;
+            synchronized (this) {
+                this.progress = progress;
+                this.message = message;
+                notify = new ArrayList<>(subscribers);
+            }
+
+            for (Subscriber subscriber: notify)
+                if (subscriber.onProgress != null)
+                    subscriber.deliver(subscriber, () -> subscriber.onProgress.accept(progress, message));
+        }
+
+        /**
+         * Check whether the job was cancelled, long running tasks should stop in that case
+         * @return
+         */
+        synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Subscribe to the progress and the result of the job, a job which already finished delivers its result
+         * right away
+         * @param ui         UI the listeners are called in
+         * @param onProgress called with the progress and a description of the current step or null
+         * @param onSuccess  called with the result once the job finished
+         * @param onFailure  called with the error if the job failed or null
+         * @return subscription to cancel
+         */
+        Subscription subscribe(UI ui, BiConsumer<Double,String> onProgress, Consumer<T> onSuccess,
+                Consumer<Exception> onFailure) {
+            Subscriber subscriber = new Subscriber(ui, onProgress, onSuccess, onFailure);
+            boolean finished;
+            synchronized (this) {
+                subscribers.add(subscriber);
+                finished = done;
+                if (!finished && message != null && onProgress != null) {
+                    double progress = this.progress;
+                    String message = this.message;
+                    subscriber.deliver(subscriber, () -> onProgress.accept(progress, message));
+                }
+            }
+
+            if (finished)
+                deliverResult(subscriber);
+            return subscriber;
+        }
+
+        private synchronized boolean isSubscribed(Subscriber subscriber) {
+            return subscribers.contains(subscriber);
+        }
+
+        private void unsubscribe(Subscriber subscriber) {
+            synchronized (this) {
+                if (!subscribers.remove(subscriber) || !subscribers.isEmpty())
+                    return;
+            }
+
+            // Nobody is interested in the result anymore
+            cancel();
+        }
+
+        /**
+         * Cancel the job by interrupting its task, subscribers are still notified about its result or error
+         */
+        void cancel() {
+            List<Subscriber> notify = Collections.emptyList();
+            synchronized (this) {
+                if (done)
+                    return;
+
+                cancelled = true;
+                if (!started) {
+                    done = true;
+                    error = new CancellationException("The operation was cancelled");
+                    notify = new ArrayList<>(subscribers);
+                }
+            }
+
+            finished(this);
+            future.cancel(true);
+            notify.forEach(this::deliverResult);
+        }
+    }
+}
@@ -18,8 +18,14 @@
 
 package com.xl4.netconf.anx;
 
+import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
 
+import com.xl4.netconf.anc.Netconf;
+import com.xl4.netconf.anc.NetconfConfigReplica;
+import com.xl4.netconf.anc.NetconfScheduler;
+import com.xl4.netconf.anc.NetconfSession;
+import com.xl4.netconf.anc.NetconfSessionPool;
 import com.xl4.netconf.anc.NetconfSSHClient;
 import com.vaadin.annotations.Push;
 import com.vaadin.annotations.Theme;
@@ -30,6 +36,7 @@ import com.vaadin.server.VaadinServlet;
 import com.vaadin.ui.themes.ValoTheme;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This MainUI is the application entry point. A MainUI may either represent a browser window
@@ -42,15 +49,38 @@ import java.util.Map;
 @Theme("adtportal")
 @Push
 public class MainUI extends com.vaadin.ui.UI implements MessageCallback {
+    // Maximum number of sessions per device used concurrently for retrieving data
+    private static final int MAX_SESSIONS = 4;
+
+    // Heap available to the data kept by the views of a UI session, the rest is kept on disk
+    private static final long MAX_SESSION_MEMORY = Runtime.getRuntime().maxMemory() / 16;
+
+    // Load limits per device shared by all UI sessions: sessions and RPCs at the same time, new sessions and RPCs
+    // per second and at once, requests waiting and the time in milliseconds they wait before they are rejected
+    private static final int MAX_DEVICE_SESSIONS = 16;
+    private static final int MAX_DEVICE_CALLS = 4;
+    private static final double DEVICE_RATE = 20;
+    private static final int DEVICE_BURST = 40;
+    private static final int MAX_DEVICE_QUEUED = 64;
+    private static final long MAX_DEVICE_WAIT = TimeUnit.MINUTES.toMillis(2);
+
+    private static final NetconfScheduler scheduler = new NetconfScheduler(MAX_DEVICE_SESSIONS, MAX_DEVICE_CALLS,
+            DEVICE_RATE, DEVICE_BURST, MAX_DEVICE_QUEUED, MAX_DEVICE_WAIT);
+
     String name;
+    int port;
     String username;
     String password;
     NetconfSSHClient client;
     NetconfYangParser parser;
     Map<String,String> capabilities;
+    boolean replicate;
 
     MainView main;
     SalesView sales; 
+    MemoryBudget memoryBudget;
+    NetconfSessionPool sessionPool;
+    String replicaKey;
 
     @Override
     protected void init(VaadinRequest vaadinRequest) {
@@ -61,6 +91,17 @@ public class MainUI extends com.vaadin.ui.UI implements MessageCallback {
         addStyleName("loginview");
     }
 
+    // Create a client to the device with the credentials of the user, it connects once a session is created
+    NetconfSSHClient createClient() {
+        NetconfSSHClient client = new NetconfSSHClient(name, port, username);
+        client.setPassword(password);
+        client.setStrictHostKeyChecking(false);
+        client.setTimeout(3600000);
+        client.setKeepalive(15000);
+        client.setScheduler(scheduler);
+        return client;
+    }
+
     public void showMain() {
         main = new MainView(name, username, password, client, parser, capabilities);
         main.setMessageCallback(this);
@@ -68,6 +109,37 @@ public class MainUI extends com.vaadin.ui.UI implements MessageCallback {
         sales = new SalesView(name, username, password, client, parser);
         sales.setMessageCallback(this);
 
+        // Data of multiple selected subtrees is retrieved concurrently using a limited number of sessions
+        sessionPool = new NetconfSessionPool(client, MAX_SESSIONS);
+        main.setSessionPool(sessionPool);
+
+        // Shared telemetry subscriptions use clients of their own, which outlive the UI session starting them
+        main.setClientFactory(this::createClient);
+        sales.setSessionPool(sessionPool);
+
+        // Devices supporting NMDA are queried with get-data, retrieving only the first levels of data upfront
+        boolean nmda = NetconfSession.isNmdaSupported(capabilities);
+        main.setNmdaSupported(nmda);
+        sales.setNmdaSupported(nmda);
+
+        // Search terms of the data view are applied by devices supporting XPath filters
+        main.setXPathSupported(capabilities.containsKey(Netconf.CAP_XPATH));
+        sales.setXPathSupported(capabilities.containsKey(Netconf.CAP_XPATH));
+
+        // Retrieved data shares a memory budget per UI session, which is also accounted for globally
+        memoryBudget = new MemoryBudget(MemoryBudget.getGlobal(), MAX_SESSION_MEMORY);
+        main.setMemoryBudget(memoryBudget);
+        sales.setMemoryBudget(memoryBudget);
+
+        // Keep a local replica of the running configuration if requested at login and the device notifies about
+        // changes, it is shared with other UI sessions of the user to the device
+        if (replicate && NetconfConfigReplica.isSupported(capabilities)) {
+            replicaKey = client.getDevice() + "\n" + username;
+            NetconfConfigReplica replica = ReplicaRegistry.getInstance().acquire(replicaKey, this::createClient);
+            main.setConfigReplica(replica);
+            sales.setConfigReplica(replica);
+        }
+
         // Show main view or login view depending on state
         setSizeFull();
         getPage().setTitle("Netconf: ".concat(name));
@@ -76,9 +148,49 @@ public class MainUI extends com.vaadin.ui.UI implements MessageCallback {
         addStyleName("mainview");
     }
 
+    // Swap the parser of all views, e.g. after the YANG models of the device were refreshed
+    void setParser(NetconfYangParser parser) {
+        this.parser = parser;
+        if (main != null)
+            main.parser = parser;
+        if (sales != null)
+            sales.parser = parser;
+    }
+
+    @Override
+    public void detach() {
+        // Data kept by the views is released once the UI session ends
+        if (main != null)
+            main.releaseData();
+        if (sales != null)
+            sales.releaseData();
+        if (memoryBudget != null)
+            memoryBudget.close();
+        disconnect();
+        super.detach();
+    }
+
+    // Release the replica and the sessions to the device, this may be called more than once
+    void disconnect() {
+        if (replicaKey != null)
+            ReplicaRegistry.getInstance().release(replicaKey);
+        replicaKey = null;
+        if (sessionPool != null)
+            sessionPool.close();
+        if (client != null)
+            client.close();
+    }
+
     @WebServlet(urlPatterns = "/*", name = "MyUIServlet", asyncSupported = true)
     @VaadinServletConfiguration(ui = MainUI.class, productionMode = true)
     public static class MyUIServlet extends VaadinServlet {
+        @Override
+        protected void servletInitialized() throws ServletException {
+            super.servletInitialized();
+
+            // Files of data written to disk are left behind if a previous instance did not shut down properly
+            SpilledData.deleteStale();
+        }
     }
 
     @Override
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import org.w3c.dom.Node;
+
+/**
+ * Budget for the heap used by retrieved data kept by the views.
+ *
+ * Each UI session has its own budget which is also accounted for in the global budget shared by all sessions.
+ * Data which does not fit is kept on disk instead.
+ */
+class MemoryBudget implements AutoCloseable {
+    private static final MemoryBudget global = new MemoryBudget(null, Runtime.getRuntime().maxMemory() / 4);
+
+    private MemoryBudget parent;
+    private long capacity;
+    private long used;
+
+    /**
+     * Create a new budget
+     * @param parent   budget the reservations are also accounted for in or null
+     * @param capacity maximum number of bytes reserved at the same time
+     */
+    MemoryBudget(MemoryBudget parent, long capacity) {
+        this.parent = parent;
+        this.capacity = capacity;
+    }
+
+    static MemoryBudget getGlobal() {
+        return global;
+    }
+
+    /**
+     * Reserve memory if both this budget and its parent allow it
+     * @param bytes
+     * @return whether the memory was reserved
+     */
+    synchronized boolean reserve(long bytes) {
+        if (used + bytes > capacity || (parent != null && !parent.reserve(bytes)))
+            return false;
+        used += bytes;
+        return true;
+    }
+
+    /**
+     * Check whether memory could be reserved without reserving it
+     * @param bytes
+     * @return
+     */
+    synchronized boolean isAvailable(long bytes) {
+        return used + bytes <= capacity && (parent == null || parent.isAvailable(bytes));
+    }
+
+    /**
+     * Release memory reserved before
+     * @param bytes
+     */
+    synchronized void release(long bytes) {
+        bytes = Math.min(bytes, used);
+        used -= bytes;
+        if (parent != null)
+            parent.release(bytes);
+    }
+
+    /**
+     * Release all memory still reserved, e.g. when the UI session ends
+     */
+    @Override
+    public synchronized void close() {
+        release(used);
+    }
+
+    /**
+     * Roughly estimate the heap used by the DOM tree of an XML document before it is built, which is about eight
+     * times its size according to estimateWeight(Node)
+     * @param bytes size of the document
+     * @return
+     */
+    static long estimateWeight(long bytes) {
+        return 8 * bytes;
+    }
+
+    /**
+     * Roughly estimate the heap used by a DOM tree
+     * @param root
+     * @return
+     */
+    static long estimateWeight(Node root) {
+        long weight = 0;
+        Node node = root;
+        while (node != null) {
+            weight += 64 + 2 * (node.getNodeType() == Node.TEXT_NODE ?
+                    node.getNodeValue().length() : node.getNodeName().length() + 32);
+
+            if (node.getFirstChild() != null) {
+                node = node.getFirstChild();
+            } else {
+                while (node != root && node.getNextSibling() == null)
+                    node = node.getParentNode();
+                node = (node != root) ? node.getNextSibling() : null;
+            }
+        }
+        return weight;
+    }
+}
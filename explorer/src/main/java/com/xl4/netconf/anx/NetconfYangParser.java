@@ -34,6 +34,7 @@ import org.opendaylight.yangtools.yang.model.parser.api.YangSyntaxErrorException
 import org.opendaylight.yangtools.yang.model.repo.api.*;
 import org.opendaylight.yangtools.yang.model.repo.spi.PotentialSchemaSource;
 import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceProvider;
+import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceRegistration;
 import org.opendaylight.yangtools.yang.model.repo.util.InMemorySchemaSourceCache;
 import org.opendaylight.yangtools.yang.parser.repo.SharedSchemaRepository;
 import org.opendaylight.yangtools.yang.parser.rfc7950.repo.ASTSchemaSource;
@@ -51,11 +52,18 @@ import java.util.stream.Collectors;
 
 /**
  * Wrapper for ODL yangtools parser
+ *
+ * Once parsed the parser is published to the views and shared between their UI sessions, so it is
+ * no longer modified. Refreshing the YANG models of a device works on a copy of the parser.
  */
 public class NetconfYangParser implements SchemaSourceProvider<YangTextSchemaSource> {
     private HashMap<SourceIdentifier,YangTextSchemaSource> sources = new HashMap<>();
+    private HashMap<SourceIdentifier,SchemaSourceRegistration<YangTextSchemaSource>> registrations = new HashMap<>();
+    private HashMap<SourceIdentifier,ASTSchemaSource> asts = new HashMap<>();
+    private HashMap<String,String> retrievedSchemas = new HashMap<>();
+    private String schemaSetID;
     private SharedSchemaRepository repository = new SharedSchemaRepository("yang-context-resolver");
-    private SchemaContext schemaContext;
+    private volatile Schemas schemas;
     private InMemorySchemaSourceCache<ASTSchemaSource> cache = InMemorySchemaSourceCache.createSoftCache(repository, ASTSchemaSource.class);
     private List<String> warnings = new LinkedList<>();
     private String cacheDirectory;
@@ -64,20 +72,90 @@ public class NetconfYangParser implements SchemaSourceProvider<YangTextSchemaSou
         void onSchema(int iteration, String identifier, String version, Exception e);
     }
 
+    /**
+     * YANG models of a device which differ from the ones of a parser
+     */
+    public static final class SchemaChanges {
+        private final String schemaSetID;
+        private final Map<String,String> schemas;
+        private final Map<String,String> changes;
+
+        private SchemaChanges(String schemaSetID, Map<String,String> schemas, Map<String,String> changes) {
+            this.schemaSetID = schemaSetID;
+            this.schemas = schemas;
+            this.changes = changes;
+        }
+
+        /**
+         * Get the models which were added or changed and need to be retrieved
+         * @return versions by identifier
+         */
+        public Map<String,String> getChanges() {
+            return changes;
+        }
+    }
+
+    // Schema context and its search index, published together once parsing is done
+    private static final class Schemas {
+        private final SchemaContext context;
+        private final SchemaIndex index;
+
+        private Schemas(SchemaContext context) {
+            this.context = context;
+            this.index = (context != null) ? new SchemaIndex(context) : null;
+        }
+    }
+
     NetconfYangParser() {
         //System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "debug");
         repository.registerSchemaSourceListener(TextToASTTransformer.create(repository, repository));
     }
 
+    /**
+     * Create an unpublished copy of a parser to refresh its YANG models, models no longer advertised by the device
+     * are left out. The models kept are not parsed again, their ASTs are shared with the given parser.
+     * @param parser
+     * @param changes changes of the device determined by getSchemaChanges() of the given parser
+     * @throws SchemaSourceException
+     */
+    NetconfYangParser(NetconfYangParser parser, SchemaChanges changes) throws SchemaSourceException {
+        this();
+        cacheDirectory = parser.cacheDirectory;
+        schemaSetID = changes.schemaSetID;
+        for (Map.Entry<String,String> schema: parser.retrievedSchemas.entrySet())
+            if (changes.schemas.containsKey(schema.getKey()))
+                retrievedSchemas.put(schema.getKey(), schema.getValue());
+
+        // Models registered by parse() itself are kept as well, they are not advertised by the device
+        Set<String> removed = new HashSet<>(parser.retrievedSchemas.keySet());
+        removed.removeAll(retrievedSchemas.keySet());
+        for (Map.Entry<SourceIdentifier,YangTextSchemaSource> source: parser.sources.entrySet())
+            if (!removed.contains(source.getKey().getName()))
+                registerSource(source.getValue(), parser.asts.get(source.getKey()));
+    }
+
+    // Published parsers are shared between UI sessions, so their YANG models must not change anymore
+    private void checkUnpublished() {
+        if (schemas != null)
+            throw new IllegalStateException("YANG models of a published parser can't be changed");
+    }
+
     public void setCacheDirectory(String cacheDirectory) {
+        checkUnpublished();
         this.cacheDirectory = cacheDirectory;
     }
 
     public Collection<YangTextSchemaSource> getSources() {
-        return sources.values();
+        return Collections.unmodifiableCollection(sources.values());
     }
 
     public Map<String,String> getAvailableSchemas(NetconfSession session) throws NetconfException {
+        checkUnpublished();
+        schemaSetID = getSchemaSetID(session);
+        return listSchemas(session);
+    }
+
+    private Map<String,String> listSchemas(NetconfSession session) throws NetconfException {
         // Use NETCONF monitoring to query available schemas for retriving from device
         HashMap<String,String> schemas = new HashMap<>();
         session.get(
@@ -87,6 +165,71 @@ public class NetconfYangParser implements SchemaSourceProvider<YangTextSchemaSou
         return schemas;
     }
 
+    /**
+     * Get the YANG library module-set-id (RFC 7895) or content-id (RFC 8525) of the device
+     * @param session
+     * @return identifier of the current set of YANG models or null if the device doesn't provide one
+     */
+    public static String getSchemaSetID(NetconfSession session) {
+        // The yang-library capability carries the current ID as a parameter, so no extra request is needed
+        Map<String,String> capabilities = session.getCapabilities();
+        String query = capabilities.getOrDefault(Netconf.CAP_YANG_LIBRARY_11,
+                capabilities.get(Netconf.CAP_YANG_LIBRARY_10));
+
+        if (query != null) {
+            for (String parameter: query.replaceFirst("^\\?", "").split("&")) {
+                String[] value = parameter.split("=", 2);
+                if (value.length > 1 && (value[0].equals("content-id") || value[0].equals("module-set-id")))
+                    return value[1];
+            }
+        }
+
+        try {
+            XMLElement data = session.get(Arrays.asList(
+                    new XMLElement(Netconf.NS_YANG_LIBRARY, "modules-state").withChild("module-set-id"),
+                    new XMLElement(Netconf.NS_YANG_LIBRARY, "yang-library").withChild("content-id")));
+            String setID = data.getOrEmpty(Netconf.NS_YANG_LIBRARY, "yang-library")
+                    .getTextOrDefault(Netconf.NS_YANG_LIBRARY, "content-id", data.getOrEmpty(Netconf.NS_YANG_LIBRARY,
+                            "modules-state").getText(Netconf.NS_YANG_LIBRARY, "module-set-id"));
+            return !setID.isEmpty() ? setID : null;
+        } catch (NetconfException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Compare the YANG models of the device against the ones retrieved before, the parser itself is not modified
+     * so this works on a published parser
+     * @param session
+     * @return empty if the YANG library ID is unchanged, otherwise the changes to apply to a copy of the parser
+     * @throws NetconfException
+     */
+    public Optional<SchemaChanges> getSchemaChanges(NetconfSession session) throws NetconfException {
+        String setID = getSchemaSetID(session);
+        if (setID != null && setID.equals(schemaSetID))
+            return Optional.empty();
+
+        Map<String,String> schemas = listSchemas(session);
+        HashMap<String,String> changes = new HashMap<>();
+        for (Map.Entry<String,String> schema: schemas.entrySet())
+            if (!retrievedSchemas.containsKey(schema.getKey()) ||
+                    !Objects.equals(retrievedSchemas.get(schema.getKey()), schema.getValue()))
+                changes.put(schema.getKey(), schema.getValue());
+
+        return Optional.of(new SchemaChanges(setID, schemas, changes));
+    }
+
+    private void unregisterSource(String identifier) {
+        retrievedSchemas.remove(identifier);
+        for (SourceIdentifier id: new ArrayList<>(sources.keySet())) {
+            if (id.getName().equals(identifier)) {
+                sources.remove(id);
+                asts.remove(id);
+                Optional.ofNullable(registrations.remove(id)).ifPresent(SchemaSourceRegistration::close);
+            }
+        }
+    }
+
     public void registerSource(String identifier, String version, URL url)
             throws SchemaSourceException, IOException, YangSyntaxErrorException {
         registerSource(identifier, version, Resources.asByteSource(url));
@@ -108,16 +251,37 @@ public class NetconfYangParser implements SchemaSourceProvider<YangTextSchemaSou
         if (!source.getIdentifier().equals(actualIdentifier))
             source = YangTextSchemaSource.delegateForByteSource(actualIdentifier, byteSource);
 
+        registerSource(source, ast);
+    }
+
+    private void registerSource(YangTextSchemaSource source, ASTSchemaSource ast) throws SchemaSourceException {
+        checkUnpublished();
         cache.schemaSourceEncountered(ast);
 
+        // Replace a previously registered source of the same model, e.g. an updated model without new revision
         sources.put(source.getIdentifier(), source);
-        repository.registerSchemaSource(this, PotentialSchemaSource.create(
-                source.getIdentifier(), YangTextSchemaSource.class, PotentialSchemaSource.Costs.IMMEDIATE.getValue()));
+        asts.put(source.getIdentifier(), ast);
+        Optional.ofNullable(registrations.remove(source.getIdentifier())).ifPresent(SchemaSourceRegistration::close);
+        registrations.put(source.getIdentifier(), repository.registerSchemaSource(this, PotentialSchemaSource.create(
+                source.getIdentifier(), YangTextSchemaSource.class, PotentialSchemaSource.Costs.IMMEDIATE.getValue())));
     }
     
     public void retrieveSchemas(NetconfSession session, Map<String, String> schemas, RetrieverCallback callback, boolean forceUpdateCache)
             throws SchemaSourceException, IOException, YangSyntaxErrorException, NetconfException {
-        int iteration = 0;
+        checkUnpublished();
+
+        // Downloading all schemas is a bulk operation, it would take minutes within the rate limit of the device
+        boolean rateLimited = session.isRateLimited();
+        session.setRateLimited(false);
+        try {
+            retrieveSchemas(session, schemas, callback, forceUpdateCache, 0);
+        } finally {
+            session.setRateLimited(rateLimited);
+        }
+    }
+
+    private void retrieveSchemas(NetconfSession session, Map<String, String> schemas, RetrieverCallback callback,
+            boolean forceUpdateCache, int iteration) {
         for (Map.Entry<String, String> entry : schemas.entrySet()) {
             String identifier = entry.getKey();
             String version = entry.getValue();
@@ -136,23 +300,32 @@ public class NetconfYangParser implements SchemaSourceProvider<YangTextSchemaSou
                         Files.write(cacheFile.toPath(), yangData, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
                 }
 
+                unregisterSource(identifier);
                 registerSource(identifier, version, yangData);
+                retrievedSchemas.put(identifier, version);
                 callback.onSchema(++iteration, identifier, version, null);
             } catch (NetconfException.RPCException f) {
-                addWarning(String.format("Failed to get schema for %s@%s (%s)\n",
+                schemaSetID = null;
+                warnings.add(String.format("Failed to get schema for %s@%s (%s)\n",
                         identifier, version, f.getMessage()));
                 callback.onSchema(++iteration, identifier, version, f);
             } catch (Exception e) {
+                schemaSetID = null;
                 e.printStackTrace();
                 callback.onSchema(++iteration, identifier, version, e);
             }
         }
     }
 
+    /**
+     * Parse the registered YANG models and publish the resulting schema context and its search index
+     */
     public void parse() {
+        checkUnpublished();
         EffectiveModelContextFactory factory = repository.createEffectiveModelContextFactory(SchemaContextFactoryConfiguration
                 .builder().setFilter(SchemaSourceFilter.ALWAYS_ACCEPT).build());
         Collection<SourceIdentifier> requiredSources = new HashSet<>(sources.keySet());
+        SchemaContext schemaContext = null;
 
         // Workaround for NCS, it is not exporting some essential models so we provide those manually);
         if (requiredSources.stream().map(SourceIdentifier::getName).anyMatch("tailf-ncs-common"::equals) &&
@@ -202,18 +375,24 @@ public class NetconfYangParser implements SchemaSourceProvider<YangTextSchemaSou
                 }
 			}
         }
+
+        // Build the search index upfront so readers never see a context without its index
+        schemas = new Schemas(schemaContext);
     }
 
     public SchemaContext getSchemaContext() {
-        return schemaContext;
+        Schemas schemas = this.schemas;
+        return (schemas != null) ? schemas.context : null;
     }
 
-    public Collection<String> getWarnings() {
-        return warnings;
+    // Get the search index of the published schema context
+    SchemaIndex getSchemaIndex() {
+        Schemas schemas = this.schemas;
+        return (schemas != null) ? schemas.index : null;
     }
 
-    public void addWarning(String warning) {
-        warnings.add(warning);
+    public Collection<String> getWarnings() {
+        return Collections.unmodifiableList(warnings);
     }
 
 	@Override
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Updates of a UI from background threads, applied in batches at a limited rate.
+ *
+ * Each UI.access locks the session and pushes the changes to the browser, which does not scale with streams
+ * of updates like telemetry data or progress reports. Updates given here are queued and applied together at most
+ * a configured number of times per second. Updates with the same key replace each other, so that only the latest
+ * state is shown, while items added for the same key are handed over in a single list.
+ */
+class PushCoalescer {
+    // Maximum number of times per second updates are pushed to a UI by default
+    static final int DEFAULT_RATE = 10;
+
+    private static final Map<UI,PushCoalescer> coalescers = new HashMap<>();
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "anx-push");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private UI ui;
+    private long interval;
+    private long flushed;
+    private boolean scheduled;
+    private LinkedHashMap<Object,Runnable> pending = new LinkedHashMap<>();
+
+    // Items added for the same key since the last flush
+    private static class Batch<T> implements Runnable {
+        private List<T> items = new ArrayList<>();
+        private Consumer<List<T>> consumer;
+
+        Batch(Consumer<List<T>> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void run() {
+            consumer.accept(items);
+        }
+    }
+
+    private PushCoalescer(UI ui, int rate) {
+        this.ui = ui;
+        this.flushed = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+        setMaxRate(rate);
+    }
+
+    /**
+     * Get the coalescer of a UI, which is created on first use and dropped when the UI is detached
+     * @param ui
+     * @return
+     */
+    static PushCoalescer get(UI ui) {
+        synchronized (coalescers) {
+            PushCoalescer coalescer = coalescers.get(ui);
+            if (coalescer == null) {
+                coalescer = new PushCoalescer(ui, DEFAULT_RATE);
+                coalescers.put(ui, coalescer);
+                ui.addDetachListener(x -> remove(ui));
+            }
+            return coalescer;
+        }
+    }
+
+    private static void remove(UI ui) {
+        synchronized (coalescers) {
+            coalescers.remove(ui);
+        }
+    }
+
+    /**
+     * Set the maximum number of times per second updates are pushed to the UI
+     * @param rate
+     */
+    synchronized void setMaxRate(int rate) {
+        interval = TimeUnit.SECONDS.toNanos(1) / Math.max(rate, 1);
+    }
+
+    /**
+     * Queue an update of the UI, replacing a queued update with the same key
+     * @param key    identifies updates of the same state, e.g. the component to update
+     * @param update update run within the UI
+     */
+    synchronized void update(Object key, Runnable update) {
+        pending.put(key, update);
+        schedule();
+    }
+
+    /**
+     * Queue an item to be handed to the UI together with others added for the same key
+     * @param key      identifies the items handed over together, e.g. the component to update
+     * @param item
+     * @param consumer called within the UI with all items added since the last update
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <T> void add(Object key, T item, Consumer<List<T>> consumer) {
+        Runnable update = pending.get(key);
+        if (!(update instanceof Batch)) {
+            update = new Batch<>(consumer);
+            pending.put(key, update);
+        }
+        ((Batch<T>)update).items.add(item);
+        schedule();
+    }
+
+    // Flush once the interval since the last flush is over
+    private void schedule() {
+        if (scheduled)
+            return;
+
+        scheduled = true;
+        long delay = Math.max(0, flushed + interval - System.nanoTime());
+        timer.schedule(this::flush, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void flush() {
+        Collection<Runnable> updates;
+        synchronized (this) {
+            updates = pending.values();
+            pending = new LinkedHashMap<>();
+            scheduled = false;
+            flushed = System.nanoTime();
+        }
+
+        try {
+            ui.access(() -> updates.forEach(Runnable::run));
+        } catch (UIDetachedException e) {
+            remove(ui);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.vaadin.ui.CheckBox;
+import com.vaadin.ui.Notification;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Check box of a live telemetry window to record the stream for replay with ReplayControl.
+ */
+class RecordingToggle extends CheckBox {
+    static final Path DIRECTORY = Paths.get("/var/cache/jetty9/webapps/recordings");
+
+    private volatile TelemetryRecorder recorder;
+
+    /**
+     * Create a toggle
+     * @param prefix start of the names of recordings, followed by the time the recording started
+     */
+    RecordingToggle(String prefix) {
+        super("Record stream");
+        addValueChangeListener(event -> {
+            if (event.getValue())
+                start(getPrefix(prefix) + "-" +
+                        LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+            else
+                stop();
+        });
+    }
+
+    // Recordings are named after the stream, with characters not allowed in file names replaced
+    static String getPrefix(String prefix) {
+        return prefix.replaceAll("[^A-Za-z0-9_.-]", "_");
+    }
+
+    private void start(String name) {
+        try {
+            recorder = new TelemetryRecorder(DIRECTORY, name);
+            setCaption("Recording to " + name);
+        } catch (IOException e) {
+            Notification.show("Failed to start recording: " + e.getMessage(), Notification.Type.ERROR_MESSAGE);
+            setValue(false);
+        }
+    }
+
+    /**
+     * Get the active recorder
+     * @return recorder or null if the stream is not recorded
+     */
+    TelemetryRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Stop recording, e.g. when the window is closed
+     */
+    void stop() {
+        TelemetryRecorder recorder = this.recorder;
+        if (recorder == null)
+            return;
+
+        this.recorder = null;
+        recorder.close();
+        setCaption("Record stream");
+        if (recorder.getError() != null)
+            Notification.show("Recording failed: " + recorder.getError().getMessage(),
+                    Notification.Type.ERROR_MESSAGE);
+        else
+            Notification.show(String.format("Recorded %d frames", recorder.getFrames()));
+    }
+}
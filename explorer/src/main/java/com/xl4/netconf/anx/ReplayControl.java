@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.vaadin.icons.VaadinIcons;
+import com.vaadin.ui.Alignment;
+import com.vaadin.ui.Button;
+import com.vaadin.ui.ComboBox;
+import com.vaadin.ui.HorizontalLayout;
+import com.vaadin.ui.Notification;
+import com.vaadin.ui.UI;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Controls of a live telemetry window to replay a recording of the stream made with RecordingToggle.
+ *
+ * Replayed frames are handed to the same consumers as live ones at the recorded pace, live frames are not shown
+ * while a recording is replayed.
+ */
+class ReplayControl extends HorizontalLayout {
+    private ComboBox<String> recordings = new ComboBox<>();
+    private Button button = new Button("Replay", VaadinIcons.PLAY);
+    private volatile TelemetryReplay replay;
+    private JobService.Subscription subscription;
+
+    /**
+     * Create controls
+     * @param prefix    start of the names of recordings as passed to RecordingToggle
+     * @param consumers sets the consumers of the window on a replay
+     */
+    ReplayControl(String prefix, Consumer<TelemetryReplay> consumers) {
+        setDefaultComponentAlignment(Alignment.BOTTOM_LEFT);
+        recordings.setPlaceholder("Recording");
+        recordings.setEmptySelectionAllowed(false);
+        recordings.setWidth("300px");
+
+        // Recordings made while the window is open are listed as well
+        listRecordings(prefix);
+        recordings.addFocusListener(x -> listRecordings(prefix));
+
+        button.addClickListener(x -> {
+            if (replay != null)
+                stop();
+            else if (recordings.getValue() != null)
+                start(recordings.getValue(), consumers);
+        });
+        addComponents(recordings, button);
+    }
+
+    private void listRecordings(String prefix) {
+        try {
+            String selected = recordings.getValue();
+            recordings.setItems(TelemetryRecorder.getRecordings(RecordingToggle.DIRECTORY,
+                    RecordingToggle.getPrefix(prefix)));
+            recordings.setValue(selected);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void start(String name, Consumer<TelemetryReplay> consumers) {
+        TelemetryReplay replay = new TelemetryReplay(RecordingToggle.DIRECTORY, name);
+        consumers.accept(replay);
+        this.replay = replay;
+        recordings.setEnabled(false);
+        button.setCaption("Stop");
+        button.setIcon(VaadinIcons.STOP);
+
+        subscription = JobService.getInstance().<Long>submit(null, job -> replay.run(1))
+                .subscribe(UI.getCurrent(), null, frames -> {
+                    reset();
+                    Notification.show(String.format("Replayed %d frames", frames),
+                            Notification.Type.TRAY_NOTIFICATION);
+                }, e -> {
+                    reset();
+                    Notification.show("Replay failed: " + e.getMessage(), Notification.Type.ERROR_MESSAGE);
+                });
+    }
+
+    /**
+     * Check whether a recording is being replayed
+     * @return
+     */
+    boolean isReplaying() {
+        return replay != null;
+    }
+
+    /**
+     * Stop replaying, e.g. when the window is closed
+     */
+    void stop() {
+        TelemetryReplay replay = this.replay;
+        if (replay == null)
+            return;
+
+        // The job is interrupted as the replay may be waiting for the next frame
+        replay.cancel();
+        subscription.cancel();
+        reset();
+    }
+
+    private void reset() {
+        replay = null;
+        subscription = null;
+        recordings.setEnabled(true);
+        button.setCaption("Replay");
+        button.setIcon(VaadinIcons.PLAY);
+    }
+}
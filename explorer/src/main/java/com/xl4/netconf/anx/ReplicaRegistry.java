@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.xl4.netconf.anc.NetconfClient;
+import com.xl4.netconf.anc.NetconfConfigReplica;
+import com.xl4.netconf.anc.NetconfException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Replicas of the running configuration shared by all UI sessions of a user to the same device
+ */
+class ReplicaRegistry {
+    private static final ReplicaRegistry instance = new ReplicaRegistry();
+
+    private Map<String,Shared> replicas = new HashMap<>();
+
+    // Replica with the client it uses and the number of UI sessions using it
+    private static class Shared {
+        private NetconfClient client;
+        private NetconfConfigReplica replica;
+        private int references;
+    }
+
+    static ReplicaRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the shared replica of a device, it is created by the first UI session using it
+     * @param key device and user the replica belongs to
+     * @param clientFactory creates the client of a new replica, it is owned by the replica as the replica may
+     *                      outlive the UI session creating it
+     * @return replica which must be released once it is no longer used
+     */
+    synchronized NetconfConfigReplica acquire(String key, Supplier<NetconfClient> clientFactory) {
+        Shared shared = replicas.get(key);
+        if (shared == null) {
+            shared = new Shared();
+            shared.client = clientFactory.get();
+            shared.replica = new NetconfConfigReplica(shared.client);
+            replicas.put(key, shared);
+        }
+        ++shared.references;
+        return shared.replica;
+    }
+
+    /**
+     * Release a replica, it is closed together with its client once no UI session uses it anymore
+     * @param key
+     */
+    void release(String key) {
+        Shared shared;
+        synchronized (this) {
+            shared = replicas.get(key);
+            if (shared == null || --shared.references > 0)
+                return;
+            replicas.remove(key);
+        }
+
+        shared.replica.close();
+        try {
+            shared.client.close();
+        } catch (NetconfException e) {
+            e.printStackTrace();
+        }
+    }
+}
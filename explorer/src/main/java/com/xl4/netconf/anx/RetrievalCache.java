@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.xl4.netconf.anc.Netconf;
+import com.xl4.netconf.anc.NetconfClient;
+import com.xl4.netconf.anc.NetconfException;
+import com.xl4.netconf.anc.XMLElement;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cache for retrieved data shared by all UI sessions, concurrent retrievals of the same data are done only once.
+ *
+ * Cached data is accounted for in the global memory budget, so it competes with the data kept by the views.
+ */
+class RetrievalCache {
+    // Time in milliseconds after which data is retrieved from the device again
+    private static final long TTL = TimeUnit.MINUTES.toMillis(2);
+
+    private static final RetrievalCache instance = new RetrievalCache(TTL, Runtime.getRuntime().maxMemory() / 8);
+
+    private long ttl;
+    private MemoryBudget budget;
+    private LinkedHashMap<String,Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private Map<String,CompletableFuture<Entry>> flights = new HashMap<>();
+
+    /**
+     * Retrieval of data which is not cached
+     */
+    interface Loader {
+        XMLElement load() throws NetconfException, InterruptedException;
+    }
+
+    private static class Entry {
+        private XMLElement data;
+        private long weight;
+        private long created = System.currentTimeMillis();
+
+        Entry(XMLElement data) {
+            this.data = data;
+            this.weight = MemoryBudget.estimateWeight(data.getElement());
+        }
+
+        // Copies are made one at a time as DOM implementations are not safe for concurrent reads
+        synchronized XMLElement copy() {
+            return data.copy();
+        }
+
+        synchronized XMLElement apply(Function<XMLElement,XMLElement> view) {
+            return view.apply(data);
+        }
+    }
+
+    RetrievalCache(long ttl, long capacity) {
+        this.ttl = ttl;
+        this.budget = new MemoryBudget(MemoryBudget.getGlobal(), capacity);
+    }
+
+    static RetrievalCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the cache key of a retrieval, data is only shared between sessions of the same user to the same device
+     * as access control may differ between users
+     * @param client
+     * @param username
+     * @param datastore datastore for get-config or null for operational data
+     * @param command
+     * @param subtreeFilter
+     * @return key
+     */
+    static String getKey(NetconfClient client, String username, Netconf.Datastore datastore, String command,
+            Collection<XMLElement> subtreeFilter) {
+        // Filters are normalized so the order in which schema nodes were selected does not matter
+        String filter = subtreeFilter.stream().map(XMLElement::toXML).sorted().distinct()
+                .collect(Collectors.joining());
+        return String.join("\n", client.getDevice(), username, datastore != null ? datastore.name() : "operational",
+                command, filter);
+    }
+
+    // Get an entry unless it is expired
+    private Entry getEntry(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && System.currentTimeMillis() - entry.created >= ttl) {
+            entries.remove(key);
+            budget.release(entry.weight);
+            entry = null;
+        }
+        return entry;
+    }
+
+    // Add an entry and evict the least recently used ones until it fits the budget, otherwise it is not kept
+    private void putEntry(String key, Entry entry) {
+        Entry previous = entries.remove(key);
+        if (previous != null)
+            budget.release(previous.weight);
+
+        for (Iterator<Entry> iterator = entries.values().iterator(); !budget.reserve(entry.weight); ) {
+            if (!iterator.hasNext())
+                return;
+            budget.release(iterator.next().weight);
+            iterator.remove();
+        }
+        entries.put(key, entry);
+    }
+
+    /**
+     * Get a copy of cached data
+     * @param key
+     * @return copy of the data unless it is not cached or expired
+     */
+    Optional<XMLElement> get(String key) {
+        Entry entry;
+        synchronized (this) {
+            entry = getEntry(key);
+        }
+        return Optional.ofNullable(entry).map(Entry::copy);
+    }
+
+    /**
+     * Remove cached data, e.g. if it turned out to be incomplete
+     * @param key
+     */
+    synchronized void invalidate(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null)
+            budget.release(entry.weight);
+    }
+
+    /**
+     * Derive a view from cached data without copying all of it, e.g. by applying a filter locally
+     * @param key
+     * @param view function creating a new element from the cached data, which it must not modify or return
+     * @return the view unless the data is not cached or expired
+     */
+    Optional<XMLElement> get(String key, Function<XMLElement,XMLElement> view) {
+        Entry entry;
+        synchronized (this) {
+            entry = getEntry(key);
+        }
+        return Optional.ofNullable(entry).map(e -> e.apply(view));
+    }
+
+    /**
+     * Get cached data or retrieve it, concurrent requests for the same key only retrieve it once
+     * @param key
+     * @param refresh ignore cached data, a retrieval already in progress is still joined
+     * @param loader called to retrieve the data if it is neither cached nor currently being retrieved
+     * @return the element returned by the loader if it was called, which must not be modified anymore as it is
+     *         shared with the cache, otherwise a copy of the data. A loader returning null, e.g. as it kept the data
+     *         on disk, leaves nothing to cache and requests which joined it retrieve the data on their own.
+     * @throws NetconfException
+     * @throws InterruptedException
+     */
+    XMLElement get(String key, boolean refresh, Loader loader) throws NetconfException, InterruptedException {
+        Entry entry;
+        CompletableFuture<Entry> flight;
+        boolean load = false;
+        synchronized (this) {
+            entry = refresh ? null : getEntry(key);
+            flight = flights.get(key);
+            if (entry == null && flight == null) {
+                flight = new CompletableFuture<>();
+                flights.put(key, flight);
+                load = true;
+            }
+        }
+
+        if (entry != null)
+            return entry.copy();
+
+        if (!load) {
+            try {
+                Entry joined = flight.get();
+                return (joined != null) ? joined.copy() : get(key, refresh, loader);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof NetconfException)
+                    throw (NetconfException)e.getCause();
+                throw new NetconfException(e.getCause());
+            }
+        }
+
+        try {
+            XMLElement data = loader.load();
+            entry = (data != null) ? new Entry(data) : null;
+            synchronized (this) {
+                flights.remove(key);
+                if (entry != null)
+                    putEntry(key, entry);
+            }
+            flight.complete(entry);
+            return data;
+        } catch (NetconfException | InterruptedException | RuntimeException e) {
+            synchronized (this) {
+                flights.remove(key);
+            }
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
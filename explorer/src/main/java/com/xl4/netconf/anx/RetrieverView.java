@@ -36,8 +36,10 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
@@ -154,7 +156,11 @@ public class RetrieverView extends VerticalLayout {
         cacheModels.setValue(true);
 
         final CheckBox remember = new CheckBox("Remember credentials");
-        extraFields.addComponents(cacheModels, remember);
+
+        // The replica holds a notification subscription to the device for the whole session, so it is opt-in
+        final CheckBox replicate = new CheckBox("Replicate configuration");
+        replicate.setDescription("Keep a local copy of the running configuration, updated by notifications");
+        extraFields.addComponents(cacheModels, remember, replicate);
 
         
         // Apply profile credentials if selected
@@ -254,17 +260,13 @@ public class RetrieverView extends VerticalLayout {
 
             }
 
-            ui.client = new NetconfSSHClient(ui.name, port, username.getValue());
-            ui.client.setPassword(password.getValue());
-            ui.client.setStrictHostKeyChecking(false);
-            ui.client.setTimeout(3600000);
-            ui.client.setKeepalive(15000);
+            ui.port = port;
+            ui.client = ui.createClient();
 
             // Render login window
             Window loadingWindow = new Window();
             loadingWindow.setModal(true);
             loadingWindow.setResizable(false);
-            loadingWindow.setClosable(false);
             loadingWindow.setDraggable(false);
             loadingWindow.setWidth("900px");
             loadingWindow.setHeight("75px");
@@ -285,47 +287,74 @@ public class RetrieverView extends VerticalLayout {
 
             loadingWindow.setContent(layout);
             ui.addWindow(loadingWindow);
-            ui.push();
 
-            ui.parser = new NetconfYangParser();
-            progressBar.setIndeterminate(false);
+            // Closing the window cancels the login, the shared jobs only stop once nobody else waits for them
+            AtomicReference<JobService.Subscription> login = new AtomicReference<>();
+            loadingWindow.addCloseListener(x -> login.get().cancel());
+
+            // Each session logs in with its own credentials first, sessions connecting to a device reporting the
+            // same YANG library ID then share the schema download and parsing, unless the device doesn't provide one
+            String name = ui.name;
+            int devicePort = port;
+            boolean cache = cacheModels.getValue();
+            ui.replicate = replicate.getValue();
+            NetconfSSHClient client = ui.client;
+            JobService jobs = JobService.getInstance();
+            login.set(jobs.<DeviceInfo>submit(null, job -> {
+                try (NetconfSession session = client.createSession()) {
+                    return new DeviceInfo(session.getCapabilities(), NetconfYangParser.getSchemaSetID(session));
+                }
+            }).subscribe(ui, null, device -> {
+                ui.capabilities = device.capabilities;
+                Object key = (device.schemaSetID != null) ?
+                        Arrays.asList(name, devicePort, device.schemaSetID, cache) : null;
+
+                login.set(jobs.<NetconfYangParser>submit(key, job -> {
+                    NetconfYangParser parser = new NetconfYangParser();
+                    if (cache) {
+                        String filePath = new File("/var/cache/jetty9/webapps/yangcache").toString();
+                        parser.setCacheDirectory(filePath);
+                    }
 
-            if (cacheModels.getValue()) {
-                String filePath = new File("/var/cache/jetty9/webapps/yangcache").toString();
-                ui.parser.setCacheDirectory(filePath);
-            }
+                    try (NetconfSession session = client.createSession()) {
+                        Map<String, String> schemas = parser.getAvailableSchemas(session);
+                        parser.retrieveSchemas(session, schemas, (iteration, identifier, version, error) ->
+                                job.progress(((float)iteration) / schemas.size(),
+                                        String.format("Retrieving schema %s@%s: %s", identifier, version,
+                                                (error != null) ? error.getMessage() : "success")), false);
+                    }
 
-            try (NetconfSession session = ui.client.createSession()) {
-                Map<String, String> schemas = ui.parser.getAvailableSchemas(session);
-                ui.capabilities = session.getCapabilities();
-
-                ui.parser.retrieveSchemas(session, schemas, (iteration, identifier, version, error) -> {
-                    label.setValue(String.format("Retrieving schema %s@%s: %s",
-                            identifier, version, (error != null) ? error.getMessage() : "success"));
-                    progressBar.setValue(((float)iteration) / schemas.size());
-                    ui.push();
-                }, false);
-    
-                // Actually parse the YANG models using ODL yangtools
-                label.setValue(String.format("Parsing schemas. This may take a minute..."));
-                progressBar.setIndeterminate(true);
-                ui.push();
-    
-                ui.parser.parse();
-    
-                if (ui.parser.getSchemaContext() != null)
-                    ui.showMain();
-                else
-                    Notification.show("Failed to parse schemas: no valid YANG models found!",
-                            Notification.Type.ERROR_MESSAGE);    
-            } catch (Exception e) {
+                    // Actually parse the YANG models using ODL yangtools
+                    if (!job.isCancelled()) {
+                        job.progress(-1, "Parsing schemas. This may take a minute...");
+                        parser.parse();
+                    }
+                    return parser;
+                }).subscribe(ui, (progress, message) -> {
+                    progressBar.setIndeterminate(progress < 0);
+                    if (progress >= 0)
+                        progressBar.setValue(progress.floatValue());
+                    label.setValue(message);
+                }, parser -> {
+                    ui.removeWindow(loadingWindow);
+                    ui.parser = parser;
+                    if (ui.parser.getSchemaContext() != null)
+                        ui.showMain();
+                    else
+                        Notification.show("Failed to parse schemas: no valid YANG models found!",
+                                Notification.Type.ERROR_MESSAGE);
+                }, e -> {
+                    ui.removeWindow(loadingWindow);
+                    Notification.show("Failed to retrieve schemas: " + (e.getCause() != null ?
+                            e.getCause().getMessage() : e.getMessage()), Notification.Type.ERROR_MESSAGE);
+                    e.printStackTrace();
+                }));
+            }, e -> {
+                ui.removeWindow(loadingWindow);
                 Notification.show("Failed to retrieve schemas: " + (e.getCause() != null ?
                         e.getCause().getMessage() : e.getMessage()), Notification.Type.ERROR_MESSAGE);
                 e.printStackTrace();
-            }
-
-            loadingWindow.close();
-            ui.removeWindow(loadingWindow);
+            }));
         });
         loginPanel.addComponent(fields);
         loginPanel.addComponent(extraFields);
@@ -335,6 +364,17 @@ public class RetrieverView extends VerticalLayout {
 		setExpandRatio(loginPanel, 1.0f);
 	}
   
+  // Details of a device needed before its schemas can be retrieved
+  private static class DeviceInfo {
+      private Map<String, String> capabilities;
+      private String schemaSetID;
+
+      DeviceInfo(Map<String, String> capabilities, String schemaSetID) {
+          this.capabilities = capabilities;
+          this.schemaSetID = schemaSetID;
+      }
+  }
+
   private static String encryptString(String password, String encryptionKey) throws Exception {
       SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
       createKey("xl4yangexplorer_salt.txt"); 
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Buffer keeping the latest items up to a fixed capacity, older items are overwritten.
+ *
+ * Used for live data like telemetry samples, so memory and the work per item stay constant however long a
+ * subscription runs.
+ */
+class RingBuffer<T> {
+    private Object[] items;
+    private int start;
+    private int size;
+    private long total;
+
+    /**
+     * Create a new buffer
+     * @param capacity maximum number of items kept
+     */
+    RingBuffer(int capacity) {
+        items = new Object[capacity];
+    }
+
+    /**
+     * Add an item, replacing the oldest one if the buffer is full
+     * @param item
+     */
+    synchronized void add(T item) {
+        items[(start + size) % items.length] = item;
+        if (size < items.length)
+            ++size;
+        else
+            start = (start + 1) % items.length;
+        ++total;
+    }
+
+    /**
+     * Add items in the given order
+     * @param items
+     */
+    synchronized void addAll(Collection<? extends T> items) {
+        items.forEach(this::add);
+    }
+
+    /**
+     * Get the number of items kept
+     * @return
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Get the number of items added since the buffer was created, including those overwritten
+     * @return
+     */
+    synchronized long getTotal() {
+        return total;
+    }
+
+    /**
+     * Get a range of items, starting with the newest one
+     * @param offset number of newest items to skip
+     * @param limit  maximum number of items
+     * @return copy of the items which remains valid when items are added
+     */
+    @SuppressWarnings("unchecked")
+    synchronized Stream<T> getNewest(int offset, int limit) {
+        List<T> range = new ArrayList<>();
+        for (int i = offset; i < size && i - offset < limit; ++i)
+            range.add((T)items[(start + size - 1 - i) % items.length]);
+        return range.stream();
+    }
+}
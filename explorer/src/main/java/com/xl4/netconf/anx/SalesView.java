@@ -20,8 +20,6 @@ package com.xl4.netconf.anx;
 
 import com.xl4.netconf.anc.*;
 import com.vaadin.annotations.PreserveOnRefresh;
-import com.vaadin.data.TreeData;
-import com.vaadin.data.provider.TreeDataProvider;
 import com.vaadin.event.ShortcutAction.KeyCode;
 import com.vaadin.icons.VaadinIcons;
 import com.vaadin.navigator.View;
@@ -33,19 +31,14 @@ import com.vaadin.server.VaadinService;
 import com.vaadin.shared.ui.ContentMode;
 import com.vaadin.ui.*;
 import com.vaadin.ui.themes.ValoTheme;
-import org.opendaylight.yangtools.yang.model.api.Module;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -56,13 +49,18 @@ import java.util.stream.Stream;
 public final class SalesView extends VerticalLayout implements View {
 
   private Tree<WrappedYangNode> schemaTree;
+  private SchemaTreeProvider schemaProvider;
   private Tree<XMLElement> dataTree;
+  private XMLTreeProvider dataTreeProvider;
   private XMLElement dataElements = new XMLElement(null, "data");
   private String dataQuery;
+  private boolean dataReload;
   private Netconf.Datastore dataSource;
   private Panel treePanel = new Panel();
 
-  private static ArrayList<ParentKey> parentKeyList = new ArrayList<>();
+  private Set<String> parentKeys = Collections.emptySet();
+  private Map<XMLElement, DataAnnotation> dataAnnotations = new HashMap<>();
+  private Map<WrappedYangNode, Optional<String>> tooltips = new HashMap<>();
 
   private String command = "get";
 
@@ -75,10 +73,19 @@ public final class SalesView extends VerticalLayout implements View {
   XMLElement selectedData;
 
   private MessageCallback callback;
+  private NetconfConfigReplica replica;
+  private NetconfSessionPool sessionPool;
+  private boolean nmda;
+  private boolean dataShallow;
+  private boolean xpathSearch;
+  private MemoryBudget memoryBudget;
+  private long dataWeight;
+  private SpilledData dataSpilled;
 
   // Setting and Configuration
   CheckBox dataCommandCheckBox = new CheckBox("Get 'RW' Data Only");
   CheckBox multiCheckBox = new CheckBox("Enable Multiple Selection");
+  CheckBox keysCheckBox = new CheckBox("List Keys Only");
 
   public SalesView(String host, String username, String password, NetconfClient client, NetconfYangParser parser) {
     this.host = host;
@@ -119,10 +126,8 @@ public final class SalesView extends VerticalLayout implements View {
     Button disconnectButton = new Button(VaadinIcons.SIGN_OUT);
     disconnectButton.setPrimaryStyleName(ValoTheme.BUTTON_BORDERLESS);
     disconnectButton.addClickListener(x -> {
-      try {
-        client.close();
-      } catch (Exception e) {
-      }
+      releaseData();
+      disconnect();
       Page.getCurrent().reload();
     });
 
@@ -207,6 +212,12 @@ public final class SalesView extends VerticalLayout implements View {
     dataFilterLayout.addComponent(dataFilterClear);
     dataFilterLayout.setComponentAlignment(dataFilterClear, Alignment.BOTTOM_CENTER);
 
+    Button dataReloadButton = new Button("Reload", VaadinIcons.REFRESH);
+    dataReloadButton.setDescription("Retrieve the data from the device again instead of using recent data");
+    dataReloadButton.addStyleName(ValoTheme.BUTTON_FRIENDLY);
+    dataFilterLayout.addComponent(dataReloadButton);
+    dataFilterLayout.setComponentAlignment(dataReloadButton, Alignment.BOTTOM_CENTER);
+
     // Label layout
     HorizontalLayout labelLayout = new HorizontalLayout();
     labelLayout.setWidth("100%");
@@ -291,6 +302,12 @@ public final class SalesView extends VerticalLayout implements View {
       schemaFilterApply.click();
     });
 
+    dataReloadButton.addClickListener(e -> {
+      dataReload = true;
+      dataQuery = null;
+      dataFilterApply.click();
+    });
+
     dataFilterClear.addClickListener(e -> {
       dataNodeFilter.clear();
       dataNodeFilter.focus();
@@ -314,21 +331,17 @@ public final class SalesView extends VerticalLayout implements View {
       schemaTree.setSelectionMode(event.getValue() ? Grid.SelectionMode.MULTI : Grid.SelectionMode.SINGLE);
     });
 
-    refreshButton.addClickListener(x -> {
-      refreschSchemas();
+    refreshButton.addClickListener(x -> refreschSchemas(() -> {
       schemaFilterClear.click();
       dataFilterClear.click();
       treePanel.setContent(showSchemaTree("", ""));
       schemaTree.setSelectionMode(
           multiCheckBox.getValue().booleanValue() ? Grid.SelectionMode.MULTI : Grid.SelectionMode.SINGLE);
-    });
+    }));
   }
 
   // Show the schema tree based on the current collected YANG models
   private Tree<WrappedYangNode> showSchemaTree(String moduleFilter, String fieldFilter) {
-    List<String> moduleQuery = Arrays.asList(moduleFilter.toLowerCase().split(" "));
-    List<String> fieldQuery = Arrays.asList(fieldFilter.toLowerCase().split(" "));
-
     schemaTree = new Tree<>();
     schemaTree.setSelectionMode(Grid.SelectionMode.SINGLE);
     schemaTree.setItemCaptionGenerator(WrappedYangNode::getCaption);
@@ -336,139 +349,72 @@ public final class SalesView extends VerticalLayout implements View {
     schemaTree.setItemIconGenerator(x -> x.isKey() ? VaadinIcons.KEY : null);
     schemaTree.addItemClickListener(x -> showYangNode(x.getItem()));
 
-    // Iterate YANG models, apply filters and add matching schema nodes
-    TreeData<WrappedYangNode> data = new TreeData<>();
-    for (Module module : parser.getSchemaContext().getModules()) {
-      String name = module.getName().toLowerCase();
-      String description = module.getDescription().orElse("").toLowerCase();
-      if (moduleQuery.stream().filter(name::contains).count() == moduleQuery.size() ||
-          moduleQuery.stream().filter(description::contains).count() == moduleQuery.size())
-        new WrappedYangNode(module).addToTree(data, fieldQuery);
+    // Lookup matching YANG models and schema nodes in the search index
+    SchemaIndex index = parser.getSchemaIndex();
+    List<WrappedYangNode> modules = index.getModules(moduleFilter);
+    SchemaIndex.Result result = null;
+    if (fieldFilter.trim().isEmpty()) {
+      schemaProvider = new SchemaTreeProvider(modules);
+    } else {
+      result = index.search(fieldFilter, modules);
+      schemaProvider = new SchemaTreeProvider(modules, result);
     }
 
-    // Define data provide and ordering of YANG nodes and render on tree widget
-    TreeDataProvider<WrappedYangNode> dataProvider = new TreeDataProvider<>(data);
-    dataProvider.setSortComparator(Comparator.comparing(WrappedYangNode::isKey)
-        .thenComparing(WrappedYangNode::getName)::compare);
-    schemaTree.setDataProvider(dataProvider);
+    // Schema nodes are only looked up once their parent gets expanded
+    schemaTree.setDataProvider(schemaProvider);
 
     // Expand the first 100 direct filter matches automatically
-    int remain = 100;
-    parentKeyList.clear();
-    for (WrappedYangNode module : data.getRootItems()) {
-      traverseAllChildNodes(module);
-      remain = module.applyExpand(schemaTree, remain);
+    if (result != null) {
+      schemaTree.expand(result.getAncestors(100));
+
+      if (result.isTruncated())
+        Notification.show(String.format("Too many search results! Only the best %d are shown.",
+            SchemaIndex.MAX_RESULTS), Notification.Type.TRAY_NOTIFICATION);
+      else if (result.getMatches().size() > 100)
+        Notification.show("Too many search results! They are all shown, but only 100 have been auto-expanded.",
+            Notification.Type.TRAY_NOTIFICATION);
     }
 
-    if (remain <= 0)
-      Notification.show("Too many search results! They are all shown, but only 100 have been auto-expanded.",
-          Notification.Type.TRAY_NOTIFICATION);
-
     return schemaTree;
   }
 
+
   // Show a tree of live data from the device
   private Tree<XMLElement> showDataTree(String moduleFilter, String fieldFilter) {
-    List<String> moduleQuery = Arrays.asList(moduleFilter.toLowerCase().split(" "));
-    List<String> fieldQuery = Arrays.asList(fieldFilter.toLowerCase().split(" "));
-
     dataTree = new Tree<>();
 
-    // Show name of the node/leaf and value (if available)
-    dataTree.setItemCaptionGenerator(x -> {
-      NodeList childNodes = x.getChildNodes();
-
-      Optional<Element> matchingNode = IntStream.range(0, childNodes.getLength())
-          .mapToObj(childNodes::item)
-          .filter(node -> node.getNodeType() == Node.ELEMENT_NODE)
-          .map(node -> (Element) node)
-          .filter(element -> containsCombination(element.getParentNode().getNodeName(), element.getNodeName()))
-          .findFirst();
-
-      String path = "";
-      String namespace = "";
-      for (XMLElement element = x; element != null; element = element.getParent()) {
-        path = "/" + element.getName() + path;
-        namespace = element.getNamespace();
-        if (element.getAttribute("root").equals("1"))
-          break;
-      }
-      path = path.substring(1);
-      selectedData = x;
-
-      boolean isTimeInterval = false;
-      // Iterate YANG schemas to find the schema node associated with the data
-      for (Module module : parser.getSchemaContext().getModules()) {
-        if (module.getNamespace().toString().equals(namespace)) {
-          Optional<WrappedYangNode> optNode = WrappedYangNode.byPath(new WrappedYangNode(module), path);
-          WrappedYangNode node = optNode.isPresent() ? optNode.get() : null;
-          if (node != null && node.getDataType().equals("time-interval")) {
-            isTimeInterval = true;
-          }
-        }
-      }
-
-      if (matchingNode.isPresent()) {
-        Element element = (Element) matchingNode.get();
-        return x.getName() + " (" + element.getNodeName() + " = " + element.getTextContent() + ")";
-      } else {
-        String value = x.getText();
-        if (isTimeInterval) {
-          value = isValidTimeInterval(value) ? Long.toString(Long.parseLong(value) >> 16) : "Invalid";
-        }
-
-        return x.getName().concat(x.stream().count() > 0 ? "" : (" = " + value));
-      }
-    });
+    // Show name of the node/leaf and value (if available) as annotated when building the tree
+    dataTree.setItemCaptionGenerator(x -> getDataAnnotation(x).getCaption());
 
     dataTree.addItemClickListener(x -> {
-      // Build (X)Path of selected element and find namespace
-
-      String path = "";
-      String namespace = "";
-      for (XMLElement element = x.getItem(); element != null; element = element.getParent()) {
-        path = "/" + element.getName() + path;
-        namespace = element.getNamespace();
-
-        if (element.getAttribute("root").equals("1"))
-          break;
-      }
-      path = path.substring(1);
       selectedData = x.getItem();
 
-      // Iterate YANG schemas to find the schema node associated with the data
-      for (Module module : parser.getSchemaContext().getModules())
-        if (module.getNamespace().toString().equals(namespace))
-          WrappedYangNode.byPath(new WrappedYangNode(module), path).ifPresent(this::showYangNode);
+      // Show the schema node associated with the data
+      Optional.ofNullable(getDataAnnotation(x.getItem()).getSchemaNode()).ifPresent(this::showYangNode);
     });
 
-    dataTree.setItemDescriptionGenerator(x -> {
-      String path = "";
-      String namespace = "";
-      for (XMLElement element = x; element != null; element = element.getParent()) {
-        path = "/" + element.getName() + path;
-        namespace = element.getNamespace();
-        if (element.getAttribute("root").equals("1"))
-          break;
+    dataTree.setItemDescriptionGenerator(x -> Optional.ofNullable(getDataAnnotation(x).getSchemaNode())
+        .flatMap(this::getNodeTooltip).orElse(null), ContentMode.HTML);
+
+    // Nodes kept on disk are loaded once expanded, list entries of which only the keys were retrieved and
+    // nodes at the depth limit of the retrieval are completed once expanded by the user
+    dataTree.addExpandListener(x -> {
+      if (dataSpilled != null && dataSpilled.isStub(x.getExpandedItem())) {
+        dataTreeProvider.replaceChildren(x.getExpandedItem(), dataSpilled.loadChildren(x.getExpandedItem()));
+        dataAnnotations.remove(x.getExpandedItem());
+        dataTreeProvider.refreshAll();
+        dataTree.expand(x.getExpandedItem());
+      } else if (x.isUserOriginated()) {
+        Optional.ofNullable(getDataAnnotation(x.getExpandedItem()).getSchemaNode())
+            .ifPresent(node -> retrieveChildren(x.getExpandedItem(), node));
       }
-      path = path.substring(1);
-      selectedData = x;
-
-      // Iterate YANG schemas to find the schema node associated with the data
-      for (Module module : parser.getSchemaContext().getModules()) {
-        if (module.getNamespace().toString().equals(namespace)) {
-          Optional<WrappedYangNode> node = WrappedYangNode.byPath(new WrappedYangNode(module), path);
-          if (node.isPresent()) {
-            return getNodeTooltipString(node.get());
-          }
-        }
-      }
-      return null;
-    }, ContentMode.HTML);
+    });
 
     // Get selected schema elements and build a NETCONF combined subtree-filter to
     // retrieve all of them with a single get-call
-    LinkedList<XMLElement> subtreeFilter = new LinkedList<>();
+    SubtreeFilterBuilder filterBuilder = new SubtreeFilterBuilder();
+    Function<WrappedYangNode, Optional<XMLElement>> template = keysCheckBox.getValue() ?
+        WrappedYangNode::createKeysTemplate : WrappedYangNode::createNetconfTemplate;
     Set<WrappedYangNode> items = schemaTree.getSelectedItems();
 
     for (WrappedYangNode item : items) {
@@ -481,154 +427,321 @@ public final class SalesView extends VerticalLayout implements View {
       // Only add new subtree filter if we don't have it or any parent element
       // selected already
       if (unique) {
-        item.createNetconfTemplate().map(Stream::of).orElse(item.getChildren()
-            .map(WrappedYangNode::createNetconfTemplate).filter(Optional::isPresent).map(Optional::get))
-            .forEach(subtreeFilter::add);
+        template.apply(item).map(Stream::of).orElse(item.getChildren()
+            .map(template).filter(Optional::isPresent).map(Optional::get))
+            .forEach(filterBuilder::add);
       }
     }
 
+    // Templates of selected nodes are merged so that shared ancestors are only included once
+    List<XMLElement> subtreeFilter = filterBuilder.build();
+
     // Cache retrieved config data if selected fields are the same and just filters
     // change
     String newQuery = subtreeFilter.stream().map(XMLElement::toXML).collect(Collectors.joining());
-    if (!newQuery.equals(dataQuery)) {
-      try (NetconfSession session = client.createSession()) {
-        // Query peer using NETCONF to retrieve current data using get or get-config
-        if (dataSource == null) {
-          try {
-            dataElements = subtreeFilter.isEmpty() ? session.get() : session.get(subtreeFilter);
-          } catch (NetconfException.RPCException e) {
-            e.printStackTrace();
-            Notification.show("The device cowardly refused to send operational data, thus " +
-                "displaying configuration only. You may use 'Show Schemas' to go back, " +
-                "select individual supported schemas and try 'Show Data' again.", Notification.Type.ERROR_MESSAGE);
-            dataElements = subtreeFilter.isEmpty() ? session.getConfig(Netconf.Datastore.RUNNING, command)
-                : session.getConfig(Netconf.Datastore.RUNNING, subtreeFilter, command);
-          }
-          dataQuery = newQuery;
-        } else {
-          dataElements = subtreeFilter.isEmpty() ? session.getConfig(dataSource, command)
-              : session.getConfig(dataSource, subtreeFilter, command);
-        }
-      } catch (NetconfException e) {
-        e.printStackTrace();
-        Notification.show("Failed to get data: " + e.getMessage(), Notification.Type.ERROR_MESSAGE);
-      }
+    if (!newQuery.equals(dataQuery))
+      retrieveData(subtreeFilter, newQuery, moduleFilter, fieldFilter);
+    else
+      showData(moduleFilter, fieldFilter);
+
+    return dataTree;
+  }
+
+  // Retrieve data in the background and show top-level data nodes as they arrive, filters are applied once complete
+  private void retrieveData(List<XMLElement> subtreeFilter, String query, String moduleFilter, String fieldFilter) {
+    UI ui = UI.getCurrent();
+    Netconf.Datastore source = dataSource;
+    RetrievalCache cache = RetrievalCache.getInstance();
+    DataRetriever retriever = new DataRetriever(sessionPool, source, command, nmda);
+    retriever.setMemoryBudget(memoryBudget);
+    String key = RetrievalCache.getKey(client, username, source, retriever.getCommand(), subtreeFilter);
+    boolean refresh = dataReload;
+    dataReload = false;
+
+    // The running configuration is served from the local replica if available, which is kept in sync
+    boolean useReplica = replica != null && source == Netconf.Datastore.RUNNING &&
+        command.equals("get-config");
+
+    // Data retrieved with a depth limit is completed as nodes are expanded
+    dataShallow = !useReplica && retriever.isShallow();
+
+    // Data recently retrieved by any user is shown right away unless a reload was requested
+    Optional<XMLElement> cached = (refresh || useReplica) ? Optional.empty() : cache.get(key);
+
+    // Filtered views are also served locally from data recently retrieved without a filter
+    if (!cached.isPresent() && !refresh && !useReplica && !dataShallow && !subtreeFilter.isEmpty())
+      cached = cache.get(RetrievalCache.getKey(client, username, source, retriever.getCommand(),
+          Collections.emptyList()), data -> NetconfFilter.applySubtree(data, subtreeFilter));
+
+    // Devices supporting XPath apply the search terms themselves, unless the selected data is available locally
+    if (!cached.isPresent() && !useReplica && xpathSearch && !keysCheckBox.getValue())
+      XPathSearch.create(subtreeFilter, moduleFilter, fieldFilter).ifPresent(retriever::setSearch);
+
+    // Data retrieved for a search is only reused for the same search
+    String retrievalKey = RetrievalCache.getKey(client, username, source, retriever.getCommand(), subtreeFilter);
+    String retrievalQuery = retrievalKey.equals(key) ? query : query + "\n" + retriever.getCommand();
+    if (!retrievalKey.equals(key)) {
+      dataShallow = false;
+      if (!refresh)
+        cached = cache.get(retrievalKey);
     }
 
-    // Collect NETCONF data for tree display
-    TreeData<XMLElement> data = new TreeData<>();
-    for (XMLElement element : dataElements)
-      addXMLToTree(data, element, null, moduleQuery, fieldQuery);
+    if (cached.isPresent()) {
+      storeData(cached.get());
+      if (source == null)
+        dataQuery = retrievalQuery;
+      showData(moduleFilter, fieldFilter);
+      return;
+    }
 
-    // Create data provider for tree and define sorting order
-    TreeDataProvider<XMLElement> dataProvider = new TreeDataProvider<>(data);
-    dataProvider.setSortComparator(Comparator.comparing(XMLElement::getName)::compare);
-    dataTree.setDataProvider(dataProvider);
+    storeData(new XMLElement(null, "data"));
+    dataQuery = null;
+    parentKeys = parser.getSchemaIndex().getListKeys();
+    dataAnnotations = new HashMap<>();
+    XMLTreeProvider provider = new XMLTreeProvider(dataElements, "", "",
+        (parent, child) -> !isListKey(parent.getName(), child.getName()));
+    provider.setUnloaded(this::isUnloaded);
+    dataTreeProvider = provider;
+    dataTree.setDataProvider(provider);
+
+    Label progress = new Label("Waiting for data...");
+    Button cancel = new Button("Cancel", VaadinIcons.CLOSE);
+    VerticalLayout progressLayout = new VerticalLayout(progress, cancel);
+    progressLayout.setComponentAlignment(cancel, Alignment.MIDDLE_CENTER);
+
+    Window window = new Window("Retrieving data", progressLayout);
+    window.setModal(true);
+    window.setClosable(false);
+    window.setResizable(false);
+    window.setWidth("300px");
+    window.center();
+    ui.addWindow(window);
+
+    PushCoalescer coalescer = PushCoalescer.get(ui);
+    NetconfSession.DataListener listener = new NetconfSession.DataListener() {
+      @Override
+      public void onData(XMLElement data, boolean continued) {
+        // Batches arriving faster than the UI is updated are appended at once
+        coalescer.add(provider, new AbstractMap.SimpleEntry<>(data, continued), batches -> {
+          batches.forEach(x -> provider.append(x.getKey(), x.getValue()));
+          provider.refreshAll();
+        });
+      }
 
-    int remain = 100;
+      @Override
+      public void onProgress(long bytes, long entries) {
+        coalescer.update(progress, () -> progress.setValue(String.format("Received %,d entries (%,d KiB)",
+            entries, bytes / 1024)));
+      }
+    };
 
-    // Expand up to 50 direct filter matches from data tree
-    if (moduleFilter.isEmpty() && fieldFilter.isEmpty()) {
-      for (WrappedYangNode node : schemaTree.getSelectedItems()) {
-        String path = node.getSensorPath(false, null);
-        List<String> paths = Arrays.asList(path.substring(path.indexOf(':') + 1).split("/"));
-        remain = expandXMLSelected(dataTree, data.getRootItems(), paths, remain);
+    AtomicBoolean cancelled = new AtomicBoolean();
+    AtomicBoolean streamed = new AtomicBoolean();
+
+    JobService.Job<XMLElement> job = JobService.getInstance().submit(null, x -> {
+      // Identical retrievals by other users are joined instead of querying the device again
+      XMLElement data = useReplica ? replica.getConfig(subtreeFilter) : cache.get(retrievalKey, refresh, () -> {
+        streamed.set(true);
+        return retriever.retrieve(subtreeFilter, listener);
+      });
+
+      // Incomplete data and configuration retrieved in place of operational data are not kept for other users
+      if (streamed.get() && (!retriever.getFailures().isEmpty() || !retriever.getFallbacks().isEmpty()))
+        cache.invalidate(retrievalKey);
+      return data;
+    });
+
+    job.subscribe(ui, null, data -> {
+      window.close();
+      showRetrievalProblems(retriever);
+      if (retriever.isSearchRejected())
+        xpathSearch = false;
+
+      // Data written to disk while it was received is owned by the view from now on
+      SpilledData spilledData = retriever.getSpilled();
+      if (dataTreeProvider != provider) {
+        if (spilledData != null)
+          spilledData.close();
+        return;
       }
-    }
 
-    for (XMLElement element : data.getRootItems())
-      remain = applyXMLExpanded(dataTree, element, remain);
+      if (source == null)
+        dataQuery = retrievalQuery;
+
+      // Streamed data is already shown, unless it was moved to disk or filters need to be applied
+      boolean spilled = (spilledData != null) ? storeData(spilledData) :
+          storeData(streamed.get() ? dataElements : data);
+      if (!streamed.get() || spilled || !moduleFilter.isEmpty() || !fieldFilter.isEmpty())
+        showData(moduleFilter, fieldFilter);
+      else
+        expandData(moduleFilter, fieldFilter);
+    }, e -> {
+      if (!cancelled.get())
+        e.printStackTrace();
 
-    if (remain <= 0)
-      Notification.show("Too many results! They are all shown, but only 100 have been auto-expanded.",
-          Notification.Type.TRAY_NOTIFICATION);
+      window.close();
+      if (cancelled.get())
+        Notification.show("Retrieval cancelled, only the data received so far is shown.",
+            Notification.Type.TRAY_NOTIFICATION);
+      else
+        Notification.show("Failed to get data: " + e.getMessage(), Notification.Type.ERROR_MESSAGE);
+    });
 
-    return dataTree;
+    cancel.addClickListener(x -> {
+      cancelled.set(true);
+      job.cancel();
+      retriever.cancel();
+    });
+  }
+
+  // Tell about subtrees for which only configuration data or no data at all could be retrieved
+  private void showRetrievalProblems(DataRetriever retriever) {
+    if (!retriever.getFailures().isEmpty())
+      Notification.show("Failed to get data for " + retriever.getFailures().entrySet().stream()
+          .map(x -> x.getKey() + " (" + x.getValue().getMessage() + ")").collect(Collectors.joining(", ")),
+          Notification.Type.ERROR_MESSAGE);
+    else if (!retriever.getFallbacks().isEmpty())
+      Notification.show("The device cowardly refused to send operational data for " +
+          String.join(", ", retriever.getFallbacks()) + ", thus displaying configuration only. You may use " +
+          "'Show Schemas' to go back, select individual supported schemas and try 'Show Data' again.",
+          Notification.Type.ERROR_MESSAGE);
+  }
+
+  // Check whether a list entry only contains its keys
+  private boolean isKeysStub(XMLElement element, WrappedYangNode node) {
+    Set<String> keys = node.getKeys().collect(Collectors.toSet());
+    return keysCheckBox.getValue() && node.getType().equals("list") &&
+        element.stream().map(XMLElement::getName).allMatch(keys::contains);
   }
 
-  // Transform XML data to a Vaadin treedata object
-  private static boolean addXMLToTree(TreeData<XMLElement> data, XMLElement element, XMLElement parent,
-      Collection<String> nodeQuery, Collection<String> valueQuery) {
-    String name = element.getName().toLowerCase();
-    boolean nodeOkay = nodeQuery.stream().filter(name::contains).count() == nodeQuery.size();
-    boolean valueOkay = valueQuery.isEmpty();
-    boolean okay = false;
+  // Check whether a data node is kept on disk or may have children which were not retrieved yet, key leafs are
+  // not shown so list entries of which only the keys were retrieved would not be expandable otherwise
+  private boolean isUnloaded(XMLElement element) {
+    if (dataSpilled != null && dataSpilled.isStub(element))
+      return true;
 
-    // Add element to tree
-    data.addItem(parent, element);
+    WrappedYangNode node = getDataAnnotation(element).getSchemaNode();
+    if (node == null)
+      return false;
+    if (isKeysStub(element, node))
+      return true;
+    return dataShallow && !element.stream().findAny().isPresent() && element.getText().trim().isEmpty() &&
+        (node.getType().equals("container") || node.getType().equals("list"));
+  }
 
-    // Add dummy XML attributes to mark expansion of nodes based on filters
-    if (parent == null)
-      element.withAttribute("root", "1");
-    else if (!nodeQuery.isEmpty() || !valueQuery.isEmpty())
-      parent.withAttribute("expand", "1");
+  // Retrieve the complete content of a list entry of which only the keys were retrieved so far
+  // or of a node at the depth limit of the retrieval
+  private void retrieveChildren(XMLElement entry, WrappedYangNode node) {
+    if (!isKeysStub(entry, node) && !dataTreeProvider.isUnloaded(entry))
+      return;
 
-    // Once we have a match for node filter, we want all children to be visible, so
-    // clear node filter when recursing
-    if (nodeOkay && !nodeQuery.isEmpty())
-      nodeQuery = Collections.emptyList();
+    Optional<XMLElement> filter = node.createNetconfTemplate(null, entry);
+    if (!filter.isPresent())
+      return;
 
-    // For value filter expand child nodes with matching terms
-    for (XMLElement child : element) {
-      String childText = child.stream().findAny().isPresent() ? null : child.getText().toLowerCase();
-      if (childText != null && !valueQuery.isEmpty() &&
-          valueQuery.stream().filter(childText::contains).count() == valueQuery.size()) {
-        element.withAttribute("expand", "1");
-        valueQuery = Collections.emptyList();
-        break;
-      }
-    }
+    UI ui = UI.getCurrent();
+    XMLTreeProvider provider = dataTreeProvider;
+    DataRetriever retriever = new DataRetriever(sessionPool, dataSource, command, nmda);
+
+    JobService.getInstance().<Optional<XMLElement>>submit(null, x -> retriever.retrieveNode(filter.get()))
+        .subscribe(ui, null, content -> {
+          if (dataTreeProvider != provider)
+            return;
+
+          if (content.isPresent()) {
+            provider.replaceChildren(entry, content.get());
+            dataAnnotations.remove(entry);
+            provider.refreshAll();
+            dataTree.expand(entry);
+          } else {
+            Notification.show("The data node does not exist anymore.", Notification.Type.TRAY_NOTIFICATION);
+          }
+        }, e -> {
+          e.printStackTrace();
+          Notification.show("Failed to get data: " + e.getMessage(), Notification.Type.ERROR_MESSAGE);
+        });
+  }
 
-    // Recurse for each child
-    for (XMLElement child : element)
-      if (addXMLToTree(data, child, element, nodeQuery, valueQuery))
-        okay = true;
+  // Show the retrieved data in the data tree
+  private void showData(String moduleFilter, String fieldFilter) {
+    // Data kept on disk is loaded along the paths to filter matches, so that filters find them
+    if (dataSpilled != null && (!moduleFilter.isEmpty() || !fieldFilter.isEmpty()))
+      dataSpilled.loadMatches(dataElements, XMLTreeProvider.getTerms(moduleFilter),
+          XMLTreeProvider.getTerms(fieldFilter));
+
+    // Data nodes are only looked up and bound to the YANG schema once their parent gets expanded,
+    // key leafs are shown as part of the list entry caption instead of as separate nodes
+    parentKeys = parser.getSchemaIndex().getListKeys();
+    dataAnnotations = new HashMap<>();
+    dataTreeProvider = new XMLTreeProvider(dataElements, moduleFilter, fieldFilter,
+        (parent, child) -> !isListKey(parent.getName(), child.getName()));
+    dataTreeProvider.setUnloaded(this::isUnloaded);
+    dataTree.setDataProvider(dataTreeProvider);
+    expandData(moduleFilter, fieldFilter);
+  }
 
-    okay = okay || (valueOkay && nodeOkay);
+  /**
+   * Keep data on the heap if it fits into the memory budget, otherwise move it to disk and only load what is shown
+   * @param data element containing the top-level data nodes
+   * @return whether the data was moved to disk
+   */
+  private boolean storeData(XMLElement data) {
+    releaseData();
+    dataElements = data;
+
+    long weight = MemoryBudget.estimateWeight(data.getElement());
+    if (memoryBudget == null || (weight <= SpilledData.THRESHOLD && memoryBudget.reserve(weight))) {
+      dataWeight = (memoryBudget != null) ? weight : 0;
+      return false;
+    }
 
-    // If we are filtered by node or value filter and none of our children are
-    // visible, remove ourselve
-    if (!okay || (parent != null && containsCombination(parent.getName(), element.getName()))) {
-      data.removeItem(element);
+    try {
+      dataSpilled = SpilledData.write(data);
+      dataElements = dataSpilled.getRoots();
+      return true;
+    } catch (IOException e) {
+      e.printStackTrace();
+      return false;
     }
+  }
 
-    return okay;
+  // Keep data which was written to disk while it was received
+  private boolean storeData(SpilledData data) {
+    releaseData();
+    dataSpilled = data;
+    dataElements = data.getRoots();
+    return true;
   }
 
-  // Recursively apply element expansion to a tree based on meta-attributes set by
-  // addXMLToTree
-  private static int applyXMLExpanded(Tree<XMLElement> tree, XMLElement element, int limit) {
-    if (element.getAttribute("expand").equals("1") && limit > 0) {
-      int limitBefore = limit;
-      tree.expand(element);
+  // Release the memory budget and the file used by the data
+  void releaseData() {
+    if (memoryBudget != null)
+      memoryBudget.release(dataWeight);
+    dataWeight = 0;
 
-      for (XMLElement child : tree.getTreeData().getChildren(element))
-        limit = applyXMLExpanded(tree, child, limit);
+    if (dataSpilled != null)
+      dataSpilled.close();
+    dataSpilled = null;
+  }
 
-      if (limit == limitBefore)
-        --limit;
-    }
-    return limit;
-  }
-
-  // Apply YANG schema filters to data tree
-  private static int expandXMLSelected(Tree<XMLElement> tree, Iterable<XMLElement> elements, List<String> path,
-      int limit) {
-    if (path.size() < 1 || limit < 1)
-      return limit;
-
-    path = new LinkedList<>(path);
-    String hop = path.remove(0);
-    for (XMLElement element : elements) {
-      int limitBefore = limit;
-      if (element.getName().equals(hop)) {
-        tree.expand(element);
-        limit = expandXMLSelected(tree, tree.getTreeData().getChildren(element), new LinkedList<>(path), limit);
+  // Expand data nodes of the selected schema nodes and filter matches
+  private void expandData(String moduleFilter, String fieldFilter) {
+    int remain = 100;
+
+    // Expand up to 100 direct filter matches from data tree
+    if (moduleFilter.isEmpty() && fieldFilter.isEmpty()) {
+      for (WrappedYangNode node : schemaTree.getSelectedItems()) {
+        String path = node.getSensorPath(false, null);
+        List<String> paths = Arrays.asList(path.substring(path.indexOf(':') + 1).split("/"));
+        remain = dataTreeProvider.expandPath(dataTree, paths, remain);
       }
-      if (limit == limitBefore)
-        --limit;
     }
-    return limit;
+
+    remain = dataTreeProvider.expandMatches(dataTree, remain);
+
+    if (remain <= 0)
+      Notification.show("Too many results! They are all shown, but only 100 have been auto-expanded.",
+          Notification.Type.TRAY_NOTIFICATION);
   }
 
   // Show detail table for a selected YANG schema node
@@ -659,7 +772,7 @@ public final class SalesView extends VerticalLayout implements View {
   public boolean searchModels(String moduleFilter, String nodeFilter) {
     Tree<WrappedYangNode> tree = showSchemaTree(moduleFilter, nodeFilter);
     treePanel.setContent(tree);
-    return tree.getTreeData().getRootItems().size() > 0;
+    return !schemaProvider.isEmpty();
   }
 
   @Override
@@ -669,6 +782,20 @@ public final class SalesView extends VerticalLayout implements View {
 
   @Override
   public void beforeLeave(ViewBeforeLeaveEvent event) {
+    releaseData();
+    disconnect();
+  }
+
+  // The replica and the session pool are shared with the other view, so they are released by the UI
+  private void disconnect() {
+    UI ui = UI.getCurrent();
+    if (ui instanceof MainUI) {
+      ((MainUI) ui).disconnect();
+      return;
+    }
+
+    if (sessionPool != null)
+      sessionPool.close();
     try {
       client.close();
     } catch (NetconfException e) {
@@ -703,14 +830,18 @@ public final class SalesView extends VerticalLayout implements View {
       command = event.getValue().booleanValue() ? "get-config" : "get";
     });
 
+    // Large lists can be retrieved with their keys only, entries are then retrieved once expanded
+    keysCheckBox.addStyleName("data-switch-checkbox");
+
     layout.addStyleName("padding-top-10");
-    layout.addComponents(multiCheckBox, dataCommandCheckBox, switchMode);
+    layout.addComponents(multiCheckBox, dataCommandCheckBox, keysCheckBox, switchMode);
 
     window.setContent(layout);
     UI.getCurrent().addWindow(window);
   }
 
-  private void refreschSchemas() {
+  // Shared with other sessions of the same parser, i.e. sessions which logged in to the same device together
+  private void refreschSchemas(Runnable onChanged) {
 
     UI ui = UI.getCurrent();
 
@@ -718,7 +849,6 @@ public final class SalesView extends VerticalLayout implements View {
     Window loadingWindow = new Window();
     loadingWindow.setModal(true);
     loadingWindow.setResizable(false);
-    loadingWindow.setClosable(false);
     loadingWindow.setDraggable(false);
     loadingWindow.setWidth("900px");
     loadingWindow.setHeight("75px");
@@ -739,60 +869,83 @@ public final class SalesView extends VerticalLayout implements View {
 
     loadingWindow.setContent(layout);
     ui.addWindow(loadingWindow);
-    ui.push();
-
-    NetconfYangParser yangParser = new NetconfYangParser();
-    progressBar.setIndeterminate(false);
-
-    Properties properties = new Properties();
-    try (InputStream input = new FileInputStream("/etc/excelforeyangexplorer.conf")) {
-      properties.load(input);
-      String yangcachePath = properties.getProperty("YANGCACHE_DIR", "/var/cache/jetty9/webapps/yangcache");
-      String filePath = new File(yangcachePath).toString();
-      yangParser.setCacheDirectory(filePath);
-    } catch (IOException ex) {
-      yangParser.setCacheDirectory(new File("..", "yangcache").toString());
-    }
 
-    try (NetconfSession session = this.client.createSession()) {
-      Map<String, String> schemas = yangParser.getAvailableSchemas(session);
-
-      yangParser.retrieveSchemas(session, schemas, (iteration, identifier, version, error) -> {
-        label.setValue(String.format("Retrieving schema %s@%s: %s",
-            identifier, version, (error != null) ? error.getMessage() : "success"));
-        progressBar.setValue(((float) iteration) / schemas.size());
-        ui.push();
-      }, true);
+    NetconfYangParser parser = this.parser;
+    NetconfClient client = this.client;
+    JobService.Job<Optional<NetconfYangParser>> refresh = JobService.getInstance().submit(
+        Arrays.asList("refresh", parser), job -> {
+      NetconfYangParser refreshed;
+      try (NetconfSession session = client.createSession()) {
+        // Nothing is copied or parsed again unless the YANG library ID of the device changed
+        Optional<NetconfYangParser.SchemaChanges> changes = parser.getSchemaChanges(session);
+        if (!changes.isPresent())
+          return Optional.empty();
+
+        // The current parser is shared with other sessions, so only the changed models are parsed by a copy
+        refreshed = new NetconfYangParser(parser, changes.get());
+        Map<String, String> schemas = changes.get().getChanges();
+        refreshed.retrieveSchemas(session, schemas, (iteration, identifier, version, error) ->
+            job.progress(((float) iteration) / schemas.size(), String.format("Retrieving schema %s@%s: %s",
+                identifier, version, (error != null) ? error.getMessage() : "success")), true);
+      }
 
       // Actually parse the YANG models using ODL yangtools
-      label.setValue(String.format("Parsing schemas. This may take a minute..."));
-      progressBar.setIndeterminate(true);
-      ui.push();
+      job.progress(-1, "Parsing schemas. This may take a minute...");
+      refreshed.parse();
+      return Optional.of(refreshed);
+    });
 
-      yangParser.parse();
+    // Closing the window cancels the refresh, the shared job only stops once nobody else waits for it
+    JobService.Subscription subscription = refresh.subscribe(ui, (progress, message) -> {
+      progressBar.setIndeterminate(progress < 0);
+      if (progress >= 0)
+        progressBar.setValue(progress.floatValue());
+      label.setValue(message);
+    }, refreshed -> {
+      ui.removeWindow(loadingWindow);
+      if (!refreshed.isPresent()) {
+        Notification.show("YANG models are up to date", Notification.Type.TRAY_NOTIFICATION);
+        return;
+      }
 
-      if (yangParser.getSchemaContext() == null) {
+      if (ui instanceof MainUI)
+        ((MainUI) ui).setParser(refreshed.get());
+      else
+        this.parser = refreshed.get();
+
+      if (this.parser.getSchemaContext() == null) {
         Notification.show("Failed to parse schemas: no valid YANG models found!",
             Notification.Type.ERROR_MESSAGE);
       }
-    } catch (Exception e) {
+      onChanged.run();
+    }, e -> {
+      ui.removeWindow(loadingWindow);
       Notification.show(
           "Failed to retrieve schemas: " + (e.getCause() != null ? e.getCause().getMessage() : e.getMessage()),
           Notification.Type.ERROR_MESSAGE);
       e.printStackTrace();
-    }
+    });
+    loadingWindow.addCloseListener(x -> subscription.cancel());
+  }
 
-    loadingWindow.close();
-    ui.removeWindow(loadingWindow);
+  public void setConfigReplica(NetconfConfigReplica replica) {
+    this.replica = replica;
   }
 
-  private void traverseAllChildNodes(WrappedYangNode node) {
-    if (node.isKey()) {
-      parentKeyList.add(new ParentKey(node.getParent().getName(), node.getName()));
-    }
-    node.getChildren().forEach(child -> {
-      traverseAllChildNodes(child);
-    });
+  public void setSessionPool(NetconfSessionPool sessionPool) {
+    this.sessionPool = sessionPool;
+  }
+
+  public void setNmdaSupported(boolean nmda) {
+    this.nmda = nmda;
+  }
+
+  public void setXPathSupported(boolean xpathSearch) {
+    this.xpathSearch = xpathSearch;
+  }
+
+  public void setMemoryBudget(MemoryBudget memoryBudget) {
+    this.memoryBudget = memoryBudget;
   }
 
   public void setMessageCallback(MessageCallback callback) {
@@ -811,6 +964,45 @@ public final class SalesView extends VerticalLayout implements View {
     return nodeDescription.isEmpty() ? null : toolTipHtmlString;
   }
 
+  // Tooltips of data nodes are rendered once per schema node
+  private Optional<String> getNodeTooltip(WrappedYangNode node) {
+    return tooltips.computeIfAbsent(node, x -> Optional.ofNullable(getNodeTooltipString(x)));
+  }
+
+  // Bind a data node to its schema node via the schema node of its parent, done once per node
+  private DataAnnotation getDataAnnotation(XMLElement element) {
+    DataAnnotation annotation = dataAnnotations.get(element);
+    if (annotation == null) {
+      WrappedYangNode schemaNode = dataTreeProvider.isRoot(element) ?
+          parser.getSchemaIndex().resolve(element.getNamespace(), element.getName()).orElse(null) :
+          Optional.ofNullable(getDataAnnotation(element.getParent()).getSchemaNode())
+              .flatMap(parent -> parent.getChild(element.getName())).orElse(null);
+      annotation = new DataAnnotation(schemaNode, getDataCaption(element, schemaNode));
+      dataAnnotations.put(element, annotation);
+    }
+    return annotation;
+  }
+
+  // Caption of a data node showing the value of leafs or the first key of list entries
+  private String getDataCaption(XMLElement element, WrappedYangNode schemaNode) {
+    boolean hasChildren = false;
+    for (XMLElement child : element) {
+      hasChildren = true;
+      if (isListKey(element.getName(), child.getName()))
+        return element.getName() + " (" + child.getName() + " = " + child.getText() + ")";
+    }
+
+    // Nodes whose children are not loaded yet have no value either
+    if (hasChildren || (schemaNode != null &&
+        (schemaNode.getType().equals("container") || schemaNode.getType().equals("list"))))
+      return element.getName();
+
+    String value = element.getText();
+    if (schemaNode != null && schemaNode.getDataType().equals("time-interval"))
+      value = isValidTimeInterval(value) ? Long.toString(Long.parseLong(value) >> 16) : "Invalid";
+    return element.getName() + " = " + value;
+  }
+
   private boolean isValidTimeInterval(String inputString) {
     try {
       long parsedValue = Long.parseLong(inputString, 16);
@@ -821,40 +1013,27 @@ public final class SalesView extends VerticalLayout implements View {
     }
   }
 
-  class ParentKey {
-    private String parent;
-    private String key;
-
-    public ParentKey(String parent, String key) {
-      this.parent = parent;
-      this.key = key;
-    }
-
-    public String getParent() {
-      return parent;
-    }
+  // Schema node and caption of a data node, determined once when building the data tree
+  private static class DataAnnotation {
+    private WrappedYangNode schemaNode;
+    private String caption;
 
-    public void setParent(String parent) {
-      this.parent = parent;
+    DataAnnotation(WrappedYangNode schemaNode, String caption) {
+      this.schemaNode = schemaNode;
+      this.caption = caption;
     }
 
-    public String getKey() {
-      return key;
+    WrappedYangNode getSchemaNode() {
+      return schemaNode;
     }
 
-    public void setKey(String key) {
-      this.key = key;
+    String getCaption() {
+      return caption;
     }
   }
 
-  // Method to check if a combination exists in the ArrayList
-  public static boolean containsCombination(String targetParent, String targetKey) {
-
-    for (ParentKey item : parentKeyList) {
-      if (item.getParent().equals(targetParent) && item.getKey().equals(targetKey)) {
-        return true; // Combination exists
-      }
-    }
-    return false; // Combination does not exist
+  // Check if a data node is a key of the given parent list
+  private boolean isListKey(String parent, String key) {
+    return parentKeys.contains(parent + '/' + key);
   }
 }
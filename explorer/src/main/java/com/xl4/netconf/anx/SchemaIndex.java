@@ -0,0 +1,325 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Search index over the names, descriptions and paths of all schema nodes of a schema context
+ */
+class SchemaIndex {
+    static final int MAX_RESULTS = 500;
+
+    private static final int SCORE_NAME = 3;
+    private static final int SCORE_DESCRIPTION = 2;
+    private static final int SCORE_PATH = 1;
+
+    private List<WrappedYangNode> modules = new ArrayList<>();
+    private Map<String,WrappedYangNode> modulesByNamespace = new HashMap<>();
+    private Map<String,Optional<WrappedYangNode>> resolved = new ConcurrentHashMap<>();
+    private Set<String> listKeys = new HashSet<>();
+    private List<Entry> entries = new ArrayList<>();
+    private Map<String,int[]> names;
+    private Map<String,int[]> descriptionTokens;
+
+    // Indexed schema node, entries are numbered in depth-first order so descendants form a contiguous range
+    private static class Entry {
+        WrappedYangNode node;
+        WrappedYangNode module;
+        String name;
+        String description;
+        int depth;
+        int end;
+    }
+
+    /**
+     * Result of a schema search
+     */
+    static class Result {
+        private List<WrappedYangNode> matches;
+        private boolean truncated;
+
+        Result(List<WrappedYangNode> matches, boolean truncated) {
+            this.matches = matches;
+            this.truncated = truncated;
+        }
+
+        // Matching nodes, best matches first
+        List<WrappedYangNode> getMatches() {
+            return matches;
+        }
+
+        // Ancestors of the best matches up to the given number of matches, outermost first
+        Set<WrappedYangNode> getAncestors(int limit) {
+            Set<WrappedYangNode> ancestors = new LinkedHashSet<>();
+            for (WrappedYangNode match: matches.subList(0, Math.min(limit, matches.size()))) {
+                LinkedList<WrappedYangNode> path = new LinkedList<>();
+                for (WrappedYangNode node = match.getParent(); node != null && node.getNode() != null;
+                        node = node.getParent())
+                    path.addFirst(node);
+                ancestors.addAll(path);
+            }
+            return ancestors;
+        }
+
+        // Whether there were more than MAX_RESULTS matches
+        boolean isTruncated() {
+            return truncated;
+        }
+    }
+
+    // Growable list of node numbers used while building posting lists
+    private static class Postings {
+        int[] ids = new int[2];
+        int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id)
+                return;
+            if (size == ids.length)
+                ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+    }
+
+    SchemaIndex(SchemaContext context) {
+        HashMap<String,Postings> namePostings = new HashMap<>();
+        HashMap<String,Postings> descriptionPostings = new HashMap<>();
+
+        // Module prefixes are shared by all schema nodes of the context to build qualified paths
+        HashMap<String,String> modulePrefixes = new HashMap<>();
+        for (Module module: context.getModules())
+            modulePrefixes.put(module.getNamespace().toString(), module.getPrefix());
+        Map<String,String> prefixes = Collections.unmodifiableMap(modulePrefixes);
+
+        for (Module module: context.getModules()) {
+            WrappedYangNode root = new WrappedYangNode(module, prefixes);
+            modules.add(root);
+
+            // If there are multiple revisions of a module, data is resolved using the latest one
+            modulesByNamespace.merge(root.getNamespace(), root, (a, b) ->
+                    Revision.compare(a.getModule().getRevision(), b.getModule().getRevision()) >= 0 ? a : b);
+            root.getChildren().forEach(child -> addEntry(root, child, 0, namePostings, descriptionPostings));
+        }
+
+        names = toArrays(namePostings);
+        descriptionTokens = toArrays(descriptionPostings);
+        listKeys = Collections.unmodifiableSet(listKeys);
+    }
+
+    private void addEntry(WrappedYangNode module, WrappedYangNode node, int depth,
+            Map<String,Postings> namePostings, Map<String,Postings> descriptionPostings) {
+        Entry entry = new Entry();
+        int id = entries.size();
+        entry.node = node;
+        entry.module = module;
+        entry.name = node.getName().toLowerCase();
+        entry.description = node.getDescription().toLowerCase();
+        entry.depth = depth;
+        entries.add(entry);
+
+        if (node.isKey())
+            listKeys.add(node.getParent().getName() + '/' + node.getName());
+
+        namePostings.computeIfAbsent(entry.name, x -> new Postings()).add(id);
+        for (String token: entry.description.split("[^a-z0-9]+"))
+            if (!token.isEmpty())
+                descriptionPostings.computeIfAbsent(token, x -> new Postings()).add(id);
+
+        node.getChildren().forEach(child -> addEntry(module, child, depth + 1,
+                namePostings, descriptionPostings));
+        entry.end = entries.size();
+    }
+
+    private static Map<String,int[]> toArrays(Map<String,Postings> postings) {
+        HashMap<String,int[]> result = new HashMap<>(postings.size() * 4 / 3 + 1);
+        for (Map.Entry<String,Postings> entry: postings.entrySet())
+            result.put(entry.getKey(), Arrays.copyOf(entry.getValue().ids, entry.getValue().size));
+        return result;
+    }
+
+    // Split a query into lowercase terms
+    private static List<String> getTerms(String query) {
+        return Arrays.stream(query.toLowerCase().split(" ")).filter(x -> !x.isEmpty()).collect(Collectors.toList());
+    }
+
+    // Check if all terms are contained in the given text
+    private static boolean containsAll(String text, List<String> terms) {
+        for (String term: terms)
+            if (!text.contains(term))
+                return false;
+        return true;
+    }
+
+    /**
+     * Get the YANG modules matching a query on their names or descriptions
+     * @param query space-separated terms, all of which must be contained in either the name or description
+     * @return module nodes
+     */
+    List<WrappedYangNode> getModules(String query) {
+        List<String> terms = getTerms(query);
+        return modules.stream().filter(x -> containsAll(x.getName().toLowerCase(), terms) ||
+                containsAll(x.getDescription().toLowerCase(), terms)).collect(Collectors.toList());
+    }
+
+    /**
+     * Get the module node of a namespace
+     * @param namespace
+     * @return module node of the latest revision of the module
+     */
+    Optional<WrappedYangNode> getModule(String namespace) {
+        return Optional.ofNullable(modulesByNamespace.get(namespace));
+    }
+
+    /**
+     * Resolve the schema node of a data node
+     * @param namespace namespace of the top-level data node
+     * @param path names of the data nodes from the top-level node separated by slashes
+     * @return schema node
+     */
+    Optional<WrappedYangNode> resolve(String namespace, String path) {
+        return resolved.computeIfAbsent(namespace + ' ' + path, x ->
+                getModule(namespace).flatMap(module -> WrappedYangNode.byPath(module, path)));
+    }
+
+    /**
+     * Get the key leafs of all lists
+     * @return list and key names joined by a slash
+     */
+    Set<String> getListKeys() {
+        return listKeys;
+    }
+
+    // Get the lowercase path of a schema node below its module
+    private static String getPath(WrappedYangNode node) {
+        String path = "";
+        for (; node != null && node.getNode() != null; node = node.getParent())
+            path = "/" + node.getName().toLowerCase() + path;
+        return path;
+    }
+
+    // Get all nodes whose name or path contains the given term
+    private BitSet findPath(String term) {
+        BitSet result = new BitSet(entries.size());
+        if (term.indexOf('/') < 0) {
+            // A path contains the term if the name of the node or of any ancestor does
+            for (Map.Entry<String,int[]> name: names.entrySet())
+                if (name.getKey().contains(term))
+                    for (int id: name.getValue())
+                        result.set(id, entries.get(id).end);
+        } else {
+            for (int id = 0; id < entries.size(); ++id)
+                if (getPath(entries.get(id).node).contains(term))
+                    result.set(id);
+        }
+        return result;
+    }
+
+    // Get all nodes whose description contains the given term
+    private BitSet findDescription(String term) {
+        BitSet result = new BitSet(entries.size());
+        String[] tokens = term.split("[^a-z0-9]+");
+        BitSet candidates = null;
+
+        // Candidates have a description token containing each of the tokens of the term
+        for (String token: tokens) {
+            if (token.isEmpty())
+                continue;
+
+            BitSet tokenCandidates = new BitSet(entries.size());
+            for (Map.Entry<String,int[]> descriptionToken: descriptionTokens.entrySet())
+                if (descriptionToken.getKey().contains(token))
+                    for (int id: descriptionToken.getValue())
+                        tokenCandidates.set(id);
+
+            if (candidates == null)
+                candidates = tokenCandidates;
+            else
+                candidates.and(tokenCandidates);
+        }
+
+        if (candidates == null) {
+            candidates = new BitSet(entries.size());
+            candidates.set(0, entries.size());
+        }
+
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1))
+            if (entries.get(id).description.contains(term))
+                result.set(id);
+        return result;
+    }
+
+    /**
+     * Search schema nodes by name, description or path
+     * @param query space-separated terms, all of which must be contained in either name, description or path
+     * @param modules restrict search to nodes of these modules
+     * @return best matches up to MAX_RESULTS, sorted by relevance
+     */
+    Result search(String query, Collection<WrappedYangNode> modules) {
+        List<String> terms = getTerms(query);
+        Set<WrappedYangNode> moduleSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        moduleSet.addAll(modules);
+
+        BitSet pathMatches = null;
+        BitSet descriptionMatches = null;
+        for (String term: terms) {
+            BitSet path = findPath(term);
+            BitSet description = findDescription(term);
+
+            if (pathMatches == null) {
+                pathMatches = path;
+                descriptionMatches = description;
+            } else {
+                pathMatches.and(path);
+                descriptionMatches.and(description);
+            }
+        }
+
+        if (pathMatches == null)
+            return new Result(Collections.emptyList(), false);
+
+        // Only the top-most matches are relevant as the subtrees of matches are shown anyway
+        BitSet matches = (BitSet)pathMatches.clone();
+        matches.or(descriptionMatches);
+        List<Entry> results = new ArrayList<>();
+        Map<Entry,Integer> scores = new IdentityHashMap<>();
+        for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id)) {
+            Entry entry = entries.get(id);
+            if (moduleSet.contains(entry.module)) {
+                results.add(entry);
+                scores.put(entry, containsAll(entry.name, terms) ? SCORE_NAME :
+                        descriptionMatches.get(id) ? SCORE_DESCRIPTION : SCORE_PATH);
+            }
+            id = entry.end;
+        }
+
+        results.sort(Comparator.<Entry>comparingInt(scores::get).reversed()
+                .thenComparingInt(x -> x.depth));
+
+        boolean truncated = results.size() > MAX_RESULTS;
+        return new Result(results.stream().limit(MAX_RESULTS).map(x -> x.node)
+                .collect(Collectors.toList()), truncated);
+    }
+}
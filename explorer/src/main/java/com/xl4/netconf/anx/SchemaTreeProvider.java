@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.vaadin.data.provider.AbstractBackEndHierarchicalDataProvider;
+import com.vaadin.data.provider.HierarchicalQuery;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Lazy data provider for the YANG schema tree, children are only looked up once a node is expanded
+ */
+class SchemaTreeProvider extends AbstractBackEndHierarchicalDataProvider<WrappedYangNode, Void> {
+    private static final Comparator<WrappedYangNode> ORDER = Comparator.comparing(WrappedYangNode::isKey)
+            .thenComparing(WrappedYangNode::getName);
+
+    private List<WrappedYangNode> modules;
+    private Set<WrappedYangNode> visible;
+    private Set<WrappedYangNode> matches;
+    private Map<WrappedYangNode,List<WrappedYangNode>> children = new HashMap<>();
+
+    /**
+     * Create provider showing all schema nodes of the given modules
+     * @param modules
+     */
+    SchemaTreeProvider(Collection<WrappedYangNode> modules) {
+        this.modules = new ArrayList<>(modules);
+    }
+
+    /**
+     * Create provider showing search matches with their ancestors and the adjacent leafs of those
+     * @param modules
+     * @param result
+     */
+    SchemaTreeProvider(Collection<WrappedYangNode> modules, SchemaIndex.Result result) {
+        this(modules);
+        matches = new HashSet<>(result.getMatches());
+        visible = new HashSet<>(matches);
+
+        for (WrappedYangNode match: result.getMatches()) {
+            for (WrappedYangNode node = match.getParent(); node != null; node = node.getParent()) {
+                if (!visible.add(node))
+                    break;
+
+                node.getChildren().filter(x -> x.getNode() instanceof LeafSchemaNode ||
+                        x.getNode() instanceof LeafListSchemaNode).forEach(visible::add);
+            }
+        }
+    }
+
+    // Check whether all descendants of a node are shown
+    private boolean isComplete(WrappedYangNode node) {
+        if (matches == null)
+            return true;
+
+        for (; node != null; node = node.getParent())
+            if (matches.contains(node))
+                return true;
+        return false;
+    }
+
+    // Get the sorted and filtered children of a node, null denotes the root
+    private synchronized List<WrappedYangNode> getChildren(WrappedYangNode parent) {
+        List<WrappedYangNode> result = children.get(parent);
+        if (result == null) {
+            Stream<WrappedYangNode> nodes = (parent == null) ?
+                    modules.stream().flatMap(WrappedYangNode::getChildren) : parent.getChildren();
+            if (!isComplete(parent))
+                nodes = nodes.filter(visible::contains);
+
+            result = nodes.sorted(ORDER).collect(Collectors.toList());
+            children.put(parent, result);
+        }
+        return result;
+    }
+
+    // Get the top-level schema nodes shown
+    List<WrappedYangNode> getRoots() {
+        return getChildren(null);
+    }
+
+    boolean isEmpty() {
+        return getRoots().isEmpty();
+    }
+
+    @Override
+    public int getChildCount(HierarchicalQuery<WrappedYangNode, Void> query) {
+        return getChildren(query.getParent()).size();
+    }
+
+    @Override
+    public boolean hasChildren(WrappedYangNode item) {
+        return !getChildren(item).isEmpty();
+    }
+
+    @Override
+    protected Stream<WrappedYangNode> fetchChildrenFromBackEnd(HierarchicalQuery<WrappedYangNode, Void> query) {
+        return getChildren(query.getParent()).stream().skip(query.getOffset()).limit(query.getLimit());
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.vaadin.data.provider.DataProvider;
+import com.vaadin.ui.Grid;
+import com.xl4.netconf.grpc.TelemetryStore;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.function.Function;
+
+/**
+ * Grid showing the numeric leafs of a telemetry stream with their latest value, range and rate.
+ *
+ * Statistics are calculated from the store only for the rows in view, relative to the latest sample received so
+ * clocks of device and server don't need to match.
+ */
+class SeriesGrid extends Grid<TelemetryStore.Key> {
+    // Time range of the statistics
+    private static final long RANGE = 60000;
+
+    private TelemetryStore store;
+    private List<TelemetryStore.Key> keys;
+
+    SeriesGrid(String caption, TelemetryStore store) {
+        super(caption);
+        this.store = store;
+
+        setDataProvider(DataProvider.fromCallbacks(
+                query -> keys.stream().skip(query.getOffset()).limit(query.getLimit()), query -> keys.size()));
+        addColumn(TelemetryStore.Key::getPath).setCaption("Path");
+        addColumn(TelemetryStore.Key::getKeys).setCaption("Keys");
+        addColumn(TelemetryStore.Key::getName).setCaption("Leaf");
+        addColumn(x -> format(store.getLatest(x))).setCaption("Latest");
+        addColumn(x -> format(summarize(x, points -> {
+            double min = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < points.size(); ++i)
+                min = Math.min(min, points.getMin(i));
+            return points.size() > 0 ? OptionalDouble.of(min) : OptionalDouble.empty();
+        }))).setCaption("Min (1 min)");
+        addColumn(x -> format(summarize(x, points -> {
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < points.size(); ++i)
+                max = Math.max(max, points.getMax(i));
+            return points.size() > 0 ? OptionalDouble.of(max) : OptionalDouble.empty();
+        }))).setCaption("Max (1 min)");
+        addColumn(x -> format(store.getRate(x, store.getNewest() - RANGE, store.getNewest())))
+                .setCaption("Rate (1/s)");
+        refresh();
+    }
+
+    private OptionalDouble summarize(TelemetryStore.Key key, Function<TelemetryStore.Points,OptionalDouble> function) {
+        return function.apply(store.query(key, store.getNewest() - RANGE, store.getNewest()));
+    }
+
+    private static String format(OptionalDouble value) {
+        if (!value.isPresent())
+            return "";
+        double number = value.getAsDouble();
+        return number == Math.rint(number) && Math.abs(number) < 1e15 ?
+                String.format("%d", (long)number) : String.format("%.3f", number);
+    }
+
+    /**
+     * Show series added since the last refresh and update the statistics
+     */
+    void refresh() {
+        keys = store.getKeys();
+        keys.sort(Comparator.comparing(TelemetryStore.Key::toString));
+        getDataProvider().refreshAll();
+        setCaption(String.format("Numeric leafs (%d, %d KB)", keys.size(), store.getMemoryUsage() / 1024));
+    }
+}
@@ -0,0 +1,464 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.xl4.netconf.anc.NetconfSession;
+import com.xl4.netconf.anc.XMLElement;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import javax.xml.XMLConstants;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Retrieved data kept in a memory-mapped file instead of the heap.
+ *
+ * Each element is stored as a record with its attributes and the offsets of its children, so the data shown in the
+ * tree is built from stubs: elements without children which are completed level by level as the user expands them.
+ * Leafs are stored with their value, top-level nodes also with the namespace declarations in scope. Namespaces,
+ * names and attribute values are stored once in a string table kept on the heap.
+ *
+ * Data is written while it is received, so a large reply never needs to be kept in memory as a whole.
+ */
+class SpilledData implements AutoCloseable {
+    // Data larger than this is stored on disk regardless of the memory budget
+    static final long THRESHOLD = 64L << 20;
+
+    private static final String PREFIX = "anx-data-";
+    private static final String SUFFIX = ".bin";
+    private static final String OFFSET = "com.xl4.netconf.anx.SpilledData.offset";
+
+    private Path path;
+    private MappedByteBuffer buffer;
+    private List<String> strings;
+    private List<Integer> roots;
+
+    private SpilledData(Path path, MappedByteBuffer buffer, List<String> strings, List<Integer> roots) {
+        this.path = path;
+        this.buffer = buffer;
+        this.strings = strings;
+        this.roots = roots;
+    }
+
+    /**
+     * Writer of a temporary file, data received concurrently is written through a stream per reply
+     */
+    static class Writer implements AutoCloseable {
+        private Path path;
+        private DataOutputStream out;
+        private Map<String,Integer> strings = new LinkedHashMap<>();
+        private List<Integer> roots = new ArrayList<>();
+        private boolean finished;
+
+        Writer() throws IOException {
+            path = Files.createTempFile(PREFIX, SUFFIX);
+            try {
+                out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+            } catch (IOException e) {
+                Files.deleteIfExists(path);
+                throw e;
+            }
+        }
+
+        /**
+         * Open a stream for the data nodes of a reply
+         * @return
+         */
+        Stream open() {
+            return new Stream(this);
+        }
+
+        // Write the record of a frame, the records of all children need to be written before
+        private synchronized int write(Stream.Frame frame) throws IOException {
+            if (finished)
+                throw new IOException("Data was already completed");
+
+            int offset = out.size();
+            out.writeInt(getString(frame.namespace));
+            out.writeInt(getString(frame.name));
+            out.writeInt(frame.attributes.size() / 3);
+            for (String value: frame.attributes)
+                out.writeInt(getString(value));
+            out.writeInt(frame.count);
+            for (int i = 0; i < frame.count; ++i)
+                out.writeInt(frame.children[i]);
+
+            // Only leafs are stored with their value, any whitespace between child elements is dropped
+            byte[] bytes = frame.count == 0 ? frame.text.toString().getBytes(StandardCharsets.UTF_8) : new byte[0];
+            out.writeInt(bytes.length);
+            out.write(bytes);
+
+            // The number of bytes written saturates, so a full count means the offsets no longer fit
+            if (out.size() == Integer.MAX_VALUE)
+                throw new IOException("Data too large to be mapped");
+            return offset;
+        }
+
+        private int getString(String value) {
+            return strings.computeIfAbsent(value != null ? value : "", x -> strings.size());
+        }
+
+        private synchronized void addRoot(int offset) {
+            roots.add(offset);
+        }
+
+        private synchronized void removeRoot(int offset) {
+            roots.remove(Integer.valueOf(offset));
+        }
+
+        /**
+         * Complete the file once all streams are done, the data is then owned by the returned instance
+         * @return
+         * @throws IOException
+         */
+        synchronized SpilledData finish() throws IOException {
+            finished = true;
+            out.close();
+
+            // Mappings stay valid after the channel is closed
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            SpilledData data = new SpilledData(path, buffer, new ArrayList<>(strings.keySet()), roots);
+            path = null;
+            return data;
+        }
+
+        /**
+         * Delete the file unless it was completed
+         */
+        @Override
+        public synchronized void close() {
+            finished = true;
+            try {
+                out.close();
+                if (path != null)
+                    Files.deleteIfExists(path);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Stream of the data nodes of a single reply
+     */
+    static class Stream implements NetconfSession.DataWriter {
+        private Writer writer;
+        private Deque<Frame> frames = new ArrayDeque<>();
+        private Frame last;
+
+        // Element whose children are being written, attributes are kept as namespace, name and value each
+        private static class Frame {
+            private String namespace;
+            private String name;
+            private List<String> attributes = new ArrayList<>();
+            private int[] children = new int[8];
+            private int count;
+            private StringBuilder text = new StringBuilder();
+            private int offset;
+
+            Frame(Element element, List<Attr> attributes) {
+                this.namespace = element.getNamespaceURI();
+                this.name = element.getNodeName();
+                for (Attr attribute: attributes)
+                    Collections.addAll(this.attributes, attribute.getNamespaceURI(), attribute.getName(),
+                            attribute.getValue());
+            }
+
+            void add(int child) {
+                if (count == children.length)
+                    children = Arrays.copyOf(children, 2 * count);
+                children[count++] = child;
+                text.setLength(0);
+            }
+        }
+
+        private Stream(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(XMLElement data, boolean continued) throws IOException {
+            boolean first = true;
+            for (XMLElement element: data) {
+                writeTree(element, first && continued);
+                first = false;
+            }
+        }
+
+        private void writeTree(XMLElement element, boolean continued) throws IOException {
+            startElement(element.getElement(), continued);
+            boolean leaf = true;
+            for (XMLElement child: element) {
+                writeTree(child, false);
+                leaf = false;
+            }
+            if (leaf)
+                text(element.getText());
+            endElement();
+        }
+
+        @Override
+        public void startElement(Element element, boolean continued) throws IOException {
+            // The record of a continued top-level node is written again once the node is complete
+            if (continued && frames.isEmpty() && last != null) {
+                writer.removeRoot(last.offset);
+                frames.push(last);
+                last = null;
+                return;
+            }
+
+            frames.push(new Frame(element, frames.isEmpty() ? getScope(element) : getAttributes(element)));
+        }
+
+        @Override
+        public void text(String text) {
+            Frame frame = frames.peek();
+            if (frame.count == 0)
+                frame.text.append(text);
+        }
+
+        @Override
+        public void endElement() throws IOException {
+            Frame frame = frames.pop();
+            int offset = writer.write(frame);
+            if (frames.isEmpty()) {
+                writer.addRoot(offset);
+                frame.offset = offset;
+                frame.text.setLength(0);
+                last = frame;
+            } else {
+                frames.peek().add(offset);
+            }
+        }
+
+        private static List<Attr> getAttributes(Element element) {
+            NamedNodeMap attributes = element.getAttributes();
+            List<Attr> result = new ArrayList<>(attributes.getLength());
+            for (int i = 0; i < attributes.getLength(); ++i)
+                result.add((Attr)attributes.item(i));
+            return result;
+        }
+
+        // Get the attributes of a top-level node including the namespace declarations of its ancestors
+        private static List<Attr> getScope(Element element) {
+            List<Attr> result = getAttributes(element);
+            Set<String> declared = new HashSet<>();
+            for (Attr attribute: result)
+                if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()))
+                    declared.add(attribute.getName());
+
+            for (Node node = element.getParentNode(); node instanceof Element; node = node.getParentNode())
+                for (Attr attribute: getAttributes((Element)node))
+                    if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()) &&
+                            declared.add(attribute.getName()))
+                        result.add(attribute);
+            return result;
+        }
+    }
+
+    /**
+     * Store data in a temporary file
+     * @param data element containing the top-level data nodes
+     * @return
+     * @throws IOException
+     */
+    static SpilledData write(XMLElement data) throws IOException {
+        Writer writer = new Writer();
+        try {
+            writer.open().write(data, false);
+            return writer.finish();
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Delete files left behind by a previous run, e.g. after a crash, as files are only deleted once the data
+     * is released
+     */
+    static void deleteStale() {
+        long started = ManagementFactory.getRuntimeMXBean().getStartTime();
+        Path directory = Paths.get(System.getProperty("java.io.tmpdir"));
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path path: paths) {
+                try {
+                    if (Files.getLastModifiedTime(path).toMillis() < started)
+                        Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Create stubs for the top-level data nodes
+     * @return element containing the stubs
+     */
+    XMLElement getRoots() {
+        XMLElement data = new XMLElement(null, "data");
+        for (int offset: roots)
+            data.getElement().appendChild(createStub(data, offset).getElement());
+        return data;
+    }
+
+    /**
+     * Check whether a node is a stub whose children were not loaded yet
+     * @param element
+     * @return
+     */
+    boolean isStub(XMLElement element) {
+        Object offset = element.getElement().getUserData(OFFSET);
+        return offset != null && getChildCount((Integer)offset) > 0 && !element.stream().findAny().isPresent();
+    }
+
+    /**
+     * Load the children of a stub as stubs
+     * @param element stub created by this instance
+     * @return element containing the stubs of the children
+     */
+    XMLElement loadChildren(XMLElement element) {
+        XMLElement content = new XMLElement(element.getElement().getOwnerDocument().createElementNS(null, "data"));
+        for (int child: getChildren((Integer)element.getElement().getUserData(OFFSET)))
+            content.getElement().appendChild(createStub(content, child).getElement());
+        return content;
+    }
+
+    /**
+     * Load the children of stubs on the paths to all nodes matching search terms, so that a search on the stubs
+     * finds the same nodes as on the complete data. Nodes without matches below them remain stubs.
+     * @param data element containing the stubs of the top-level data nodes
+     * @param nodeTerms lowercase terms all contained in the names of matching nodes
+     * @param valueTerms lowercase terms all contained in the values of matching leafs
+     */
+    void loadMatches(XMLElement data, List<String> nodeTerms, List<String> valueTerms) {
+        for (XMLElement element: data)
+            loadSubtreeMatches(element, nodeTerms, valueTerms);
+    }
+
+    // Load children and return whether there are matches within the subtree of a stub
+    private boolean loadSubtreeMatches(XMLElement element, List<String> nodeTerms, List<String> valueTerms) {
+        if (!isStub(element))
+            return element.stream().map(x -> loadSubtreeMatches(x, nodeTerms, valueTerms))
+                    .reduce(false, Boolean::logicalOr);
+
+        boolean found = false;
+        List<XMLElement> children = new ArrayList<>();
+        for (int offset: getChildren((Integer)element.getElement().getUserData(OFFSET))) {
+            XMLElement child = createStub(element, offset);
+            children.add(child);
+            if ((!nodeTerms.isEmpty() && containsAll(child.getName().toLowerCase(), nodeTerms)) |
+                    (!valueTerms.isEmpty() && getChildCount(offset) == 0 &&
+                            containsAll(child.getText().toLowerCase(), valueTerms)) |
+                    loadSubtreeMatches(child, nodeTerms, valueTerms))
+                found = true;
+        }
+
+        if (found)
+            for (XMLElement child: children)
+                element.getElement().appendChild(child.getElement());
+        return found;
+    }
+
+    private static boolean containsAll(String text, List<String> terms) {
+        for (String term: terms)
+            if (!text.contains(term))
+                return false;
+        return true;
+    }
+
+    // Create an element for a record in the document of the given element without inserting it
+    private XMLElement createStub(XMLElement owner, int offset) {
+        ByteBuffer record = record(offset);
+        String namespace = strings.get(record.getInt());
+        String name = strings.get(record.getInt());
+        Element element = owner.getElement().getOwnerDocument().createElementNS(
+                namespace.isEmpty() ? null : namespace, name);
+
+        for (int attributes = record.getInt(); attributes > 0; --attributes) {
+            String attributeNamespace = strings.get(record.getInt());
+            element.setAttributeNS(attributeNamespace.isEmpty() ? null : attributeNamespace,
+                    strings.get(record.getInt()), strings.get(record.getInt()));
+        }
+
+        int count = record.getInt();
+        record.position(record.position() + 4 * count);
+        byte[] text = new byte[record.getInt()];
+        record.get(text);
+        if (text.length > 0)
+            element.setTextContent(new String(text, StandardCharsets.UTF_8));
+        element.setUserData(OFFSET, offset, null);
+        return new XMLElement(element);
+    }
+
+    // Children follow the namespace, name and attributes of a record
+    private int getChildrenPosition(int offset) {
+        return offset + 12 + 12 * record(offset).getInt(offset + 8);
+    }
+
+    private int getChildCount(int offset) {
+        return record(offset).getInt(getChildrenPosition(offset));
+    }
+
+    private int[] getChildren(int offset) {
+        ByteBuffer record = record(getChildrenPosition(offset));
+        int[] children = new int[record.getInt()];
+        for (int i = 0; i < children.length; ++i)
+            children[i] = record.getInt();
+        return children;
+    }
+
+    // Buffers are not safe for concurrent use, so each read uses its own view of the mapping
+    private ByteBuffer record(int offset) {
+        ByteBuffer record = buffer.duplicate();
+        record.position(offset);
+        return record;
+    }
+
+    /**
+     * Delete the file, stubs must not be loaded anymore afterwards
+     */
+    @Override
+    public void close() {
+        buffer = null;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
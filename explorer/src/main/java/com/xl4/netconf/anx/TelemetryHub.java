@@ -0,0 +1,472 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.xl4.netconf.anc.*;
+import com.xl4.netconf.anc.Netconf.Datastore;
+import com.xl4.netconf.grpc.GNMI;
+import com.xl4.netconf.grpc.GRPCClient;
+import com.xl4.netconf.grpc.GRPCClient.GRPCClientSecurity;
+import com.xl4.netconf.grpc.GRPCClient.SubscriptionEncoding;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.net.ssl.SSLHandshakeException;
+
+/**
+ * Telemetry subscriptions shared by all viewers of the same data on a device who logged in as the same user.
+ *
+ * The first viewer of a sensor group configures the subscription on the device and opens the gRPC stream, further
+ * viewers join it. Messages are fanned out to a bounded queue per viewer, so a slow viewer drops its oldest
+ * messages instead of holding up the stream or other viewers. The stream is closed and the device configuration
+ * removed once the last viewer left. gNMI subscriptions to the same paths are shared the same way.
+ *
+ * Streams are opened with the credentials of one of their viewers, who had to log in to the device as well, using
+ * NETCONF and gRPC clients owned by the hub. Once that viewer leaves, the streams are reopened with the credentials
+ * of a remaining viewer. As access control may differ between users, viewers only share streams opened with their
+ * own username, so nobody sees data the device did not authorise for their login.
+ */
+class TelemetryHub {
+    private static final String NS_TELEMETRY = "http://cisco.com/ns/yang/Cisco-IOS-XR-telemetry-model-driven-cfg";
+    private static final String NS_EMS = "http://cisco.com/ns/yang/Cisco-IOS-XR-man-ems-cfg";
+    private static final int DEFAULT_PORT = 57400;
+
+    // Messages kept per viewer which did not catch up yet
+    private static final int MAX_QUEUED = 256;
+
+    private static final TelemetryHub instance = new TelemetryHub();
+
+    private ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "anx-hub");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Map<Object,Upstream<?>> upstreams = new HashMap<>();
+    private Map<String,DeviceState> devices = new HashMap<>();
+
+    /**
+     * Subscription of a viewer
+     */
+    interface Viewer extends AutoCloseable {
+        /**
+         * Get the number of messages dropped because the viewer did not keep up
+         * @return
+         */
+        long getDropped();
+
+        /**
+         * Get the number of viewers sharing the subscription
+         * @return
+         */
+        int getViewers();
+
+        /**
+         * Leave the subscription, which is ended if this was the last viewer
+         */
+        @Override
+        void close();
+    }
+
+    // Device configuration shared by the subscriptions of a device
+    private static class DeviceState {
+        // gRPC was enabled for the subscriptions and is disabled again once the last one ended
+        private boolean disableGRPC;
+    }
+
+    // Credentials of a viewer
+    private static class Login {
+        private String host;
+        private String username;
+        private String password;
+        private Supplier<NetconfClient> clientFactory;
+
+        Login(MainView view) {
+            host = view.host;
+            username = view.username;
+            password = view.password;
+            clientFactory = view.clientFactory;
+        }
+    }
+
+    // Stream opened with the login of a viewer
+    private interface Stream {
+        /**
+         * Close the stream
+         * @param last whether the upstream ended, otherwise the stream is reopened with the login of another viewer
+         * @throws Exception
+         */
+        void close(boolean last) throws Exception;
+    }
+
+    private interface Opener<T> {
+        Stream open(Upstream<T> upstream, Login login);
+    }
+
+    // Running stream and its viewers
+    private class Upstream<T> {
+        private Object key;
+        private Opener<T> opener;
+        private List<Fanout<T>> viewers = new ArrayList<>();
+        private Fanout<T> owner;
+        private Stream stream;
+        private boolean closed;
+
+        Upstream(Object key, Opener<T> opener) {
+            this.key = key;
+            this.opener = opener;
+        }
+
+        void dispatch(T message) {
+            for (Fanout<T> viewer: getViewers())
+                viewer.offer(message);
+        }
+
+        void fail(Throwable error) {
+            for (Fanout<T> viewer: getViewers())
+                viewer.fail(error);
+        }
+
+        private List<Fanout<T>> getViewers() {
+            synchronized (TelemetryHub.this) {
+                return new ArrayList<>(viewers);
+            }
+        }
+
+        // Open the stream with the login of the owner, it is closed right away if the owner left in the meantime
+        void open(Fanout<T> owner) {
+            Stream stream;
+            try {
+                stream = opener.open(this, owner.login);
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+
+            boolean last;
+            synchronized (TelemetryHub.this) {
+                if (this.owner == owner) {
+                    this.stream = stream;
+                    return;
+                }
+                last = closed;
+            }
+            stop(stream, last);
+        }
+
+        private void stop(Stream stream, boolean last) {
+            executor.execute(() -> {
+                try {
+                    stream.close(last);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            });
+        }
+
+        // The stream is closed once the last viewer left or handed over to another viewer if its owner left
+        void leave(Fanout<T> viewer) {
+            Stream stream;
+            Fanout<T> owner;
+            boolean last;
+            synchronized (TelemetryHub.this) {
+                if (!viewers.remove(viewer) || (viewer != this.owner && !viewers.isEmpty()))
+                    return;
+
+                last = viewers.isEmpty();
+                if (last) {
+                    closed = true;
+                    upstreams.remove(key, this);
+                }
+                owner = this.owner = last ? null : viewers.get(0);
+                stream = this.stream;
+                this.stream = null;
+            }
+
+            if (stream != null)
+                stop(stream, last);
+            if (owner != null)
+                executor.execute(() -> open(owner));
+        }
+    }
+
+    // Bounded queue of a viewer drained by the executor
+    private class Fanout<T> implements Viewer {
+        private Upstream<T> upstream;
+        private Login login;
+        private Consumer<T> consumer;
+        private Consumer<Throwable> errorConsumer;
+        private ArrayBlockingQueue<T> queue = new ArrayBlockingQueue<>(MAX_QUEUED);
+        private AtomicBoolean draining = new AtomicBoolean();
+        private volatile long dropped;
+        private volatile boolean closed;
+
+        Fanout(Upstream<T> upstream, Login login, Consumer<T> consumer, Consumer<Throwable> errorConsumer) {
+            this.upstream = upstream;
+            this.login = login;
+            this.consumer = consumer;
+            this.errorConsumer = errorConsumer;
+        }
+
+        // Only called by the thread of the stream, so dropping and adding don't race with other producers
+        void offer(T message) {
+            while (!queue.offer(message)) {
+                if (queue.poll() != null)
+                    ++dropped;
+            }
+
+            if (draining.compareAndSet(false, true))
+                executor.execute(this::drain);
+        }
+
+        private void drain() {
+            do {
+                for (T message = queue.poll(); message != null && !closed; message = queue.poll()) {
+                    try {
+                        consumer.accept(message);
+                    } catch (RuntimeException e) {
+                        e.printStackTrace();
+                    }
+                }
+                draining.set(false);
+            } while (!queue.isEmpty() && !closed && draining.compareAndSet(false, true));
+        }
+
+        void fail(Throwable error) {
+            if (!closed)
+                executor.execute(() -> errorConsumer.accept(error));
+        }
+
+        @Override
+        public long getDropped() {
+            return dropped;
+        }
+
+        @Override
+        public int getViewers() {
+            synchronized (TelemetryHub.this) {
+                return upstream.viewers.size();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed)
+                return;
+            closed = true;
+            queue.clear();
+            upstream.leave(this);
+        }
+    }
+
+    static TelemetryHub getInstance() {
+        return instance;
+    }
+
+    // Join the upstream with the given key or create it, in which case it is opened in the background
+    @SuppressWarnings("unchecked")
+    private <T> Viewer join(Object key, MainView view, Consumer<T> consumer, Consumer<Throwable> errorConsumer,
+            Opener<T> opener) {
+        Upstream<T> upstream;
+        Fanout<T> viewer;
+        boolean created = false;
+        synchronized (this) {
+            upstream = (Upstream<T>)upstreams.get(key);
+            if (upstream == null) {
+                upstream = new Upstream<>(key, opener);
+                upstreams.put(key, upstream);
+                created = true;
+            }
+            viewer = new Fanout<>(upstream, new Login(view), consumer, errorConsumer);
+            upstream.viewers.add(viewer);
+            if (created)
+                upstream.owner = viewer;
+        }
+
+        if (created) {
+            Upstream<T> started = upstream;
+            Fanout<T> owner = viewer;
+            executor.execute(() -> started.open(owner));
+        }
+        return viewer;
+    }
+
+    /**
+     * View the MDT stream of a sensor group, configuring a subscription on the device unless there is one already
+     * @param view     view of the device providing the credentials
+     * @param groupID  sensor group
+     * @param consumer called with each message in key-value GPB encoding
+     * @param errorConsumer called if the subscription could not be configured or the stream failed
+     * @return viewer to close once done
+     */
+    Viewer subscribeGroup(MainView view, String groupID, Consumer<byte[]> consumer,
+            Consumer<Throwable> errorConsumer) {
+        String device = view.client.getDevice();
+
+        return this.<byte[]>join(Arrays.asList("mdt", device, view.username, groupID), view, consumer, errorConsumer,
+                new Opener<byte[]>() {
+            private DeviceState state = getDeviceState(device);
+            private String subscriptionID;
+            private int port = DEFAULT_PORT;
+
+            // The subscription is configured when the stream is opened first, a new owner only reconnects
+            @Override
+            public synchronized Stream open(Upstream<byte[]> upstream, Login login) {
+                // The NETCONF client is owned by the hub, viewers may log out while the subscription is still used
+                NetconfClient client = login.clientFactory.get();
+                if (subscriptionID == null) {
+                    subscriptionID = String.format("anx-%d", System.currentTimeMillis());
+                    try {
+                        port = configure(client, state, groupID, subscriptionID);
+                    } catch (Exception e) {
+                        // Still try to connect, the subscription may exist already
+                        upstream.fail(e);
+                    }
+                }
+
+                String subscriptionID = this.subscriptionID;
+                GRPCClient tlsClient = new GRPCClient(login.host, port, login.username, login.password,
+                        GRPCClientSecurity.TLS_UNVERIFIED);
+                GRPCClient plainClient = new GRPCClient(login.host, port, login.username, login.password,
+                        GRPCClientSecurity.PLAINTEXT);
+                Consumer<Throwable> shutdownConsumer = new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        if (t != null && t.getCause() instanceof SSLHandshakeException)
+                            plainClient.createSubscription(subscriptionID, SubscriptionEncoding.GPBKV,
+                                    upstream::dispatch, this);
+                        else if (t != null)
+                            upstream.fail(t);
+                    }
+                };
+                tlsClient.createSubscription(subscriptionID, SubscriptionEncoding.GPBKV, upstream::dispatch,
+                        shutdownConsumer);
+
+                return last -> {
+                    try {
+                        tlsClient.close();
+                        plainClient.close();
+                        if (last)
+                            deconfigure(client, device, state, subscriptionID);
+                    } finally {
+                        client.close();
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * View a gNMI stream, subscribing to the device unless there is a subscription to the same paths already
+     * @param view     view of the device providing the credentials
+     * @param port     gRPC port
+     * @param paths    paths and sample intervals as expected by GRPCClient.subscribeRequest
+     * @param consumer called with each notification
+     * @param errorConsumer called if the stream failed
+     * @return viewer to close once done
+     */
+    Viewer subscribeGNMI(MainView view, int port, List<String> paths, Consumer<GNMI.Notification> consumer,
+            Consumer<Throwable> errorConsumer) {
+        Object key = Arrays.asList("gnmi", view.client.getDevice(), view.username, port,
+                new ArrayList<>(new TreeSet<>(paths)));
+
+        return this.<GNMI.Notification>join(key, view, consumer, errorConsumer, (upstream, login) -> {
+            GRPCClient tlsClient = new GRPCClient(login.host, port, login.username, login.password,
+                    GRPCClientSecurity.TLS_UNVERIFIED);
+            GRPCClient plainClient = new GRPCClient(login.host, port, login.username, login.password,
+                    GRPCClientSecurity.PLAINTEXT);
+            Consumer<Throwable> shutdownConsumer = new Consumer<Throwable>() {
+                @Override
+                public void accept(Throwable t) {
+                    if (t != null && t.getCause() instanceof SSLHandshakeException)
+                        plainClient.subscribeRequest(paths, upstream::dispatch, this);
+                    else if (t != null)
+                        upstream.fail(t);
+                }
+            };
+            tlsClient.subscribeRequest(paths, upstream::dispatch, shutdownConsumer);
+
+            return last -> {
+                try {
+                    tlsClient.close();
+                } finally {
+                    plainClient.close();
+                }
+            };
+        });
+    }
+
+    private synchronized DeviceState getDeviceState(String device) {
+        return devices.computeIfAbsent(device, x -> new DeviceState());
+    }
+
+    // Whether any subscription of a device is still in use, keys start with the kind and the device
+    private synchronized boolean isInUse(String device) {
+        return upstreams.keySet().stream().anyMatch(x -> ((List<?>)x).get(1).equals(device));
+    }
+
+    // Configure gRPC and the subscription and return the gRPC port, changes of a device are made one at a time
+    private int configure(NetconfClient client, DeviceState state, String groupID, String subscriptionID)
+            throws NetconfException {
+        synchronized (state) {
+            try (NetconfSession session = client.createSession()) {
+                XMLElement grpc = session.getConfig(Datastore.RUNNING,
+                        Arrays.asList(new XMLElement(NS_EMS, "grpc")), "get-config").getOrEmpty(NS_EMS, "grpc");
+                int port = Integer.parseInt(grpc.getTextOrDefault("port", String.valueOf(DEFAULT_PORT)));
+
+                session.editConfig(Datastore.CANDIDATE, new XMLElement(NS_EMS, "grpc").withChild("enable"));
+                session.editConfig(Datastore.CANDIDATE, new XMLElement(NS_TELEMETRY, "telemetry-model-driven")
+                        .withChild("subscriptions", x -> x.createChild("subscription")
+                                .withTextContent("subscription-identifier", subscriptionID)
+                                .createChild("sensor-profiles").createChild("sensor-profile")
+                                        .withTextContent("sample-interval", "15000")
+                                        .withTextContent("sensorgroupid", groupID)));
+                session.commit();
+
+                // If GRPC was not enabled, disable it once the last subscription ended
+                if (!grpc.getFirst("enable").isPresent())
+                    state.disableGRPC = true;
+                return port;
+            }
+        }
+    }
+
+    private void deconfigure(NetconfClient client, String device, DeviceState state, String subscriptionID)
+            throws NetconfException {
+        synchronized (state) {
+            try (NetconfSession session = client.createSession()) {
+                session.editConfig(Datastore.CANDIDATE, new XMLElement(NS_TELEMETRY, "telemetry-model-driven")
+                        .withChild("subscriptions", x -> x.createChild("subscription")
+                                .withAttribute(Netconf.NS_NETCONF, "operation", "remove")
+                                .withTextContent("subscription-identifier", subscriptionID)));
+                boolean disableGRPC = state.disableGRPC && !isInUse(device);
+                if (disableGRPC)
+                    session.editConfig(Datastore.CANDIDATE, new XMLElement(NS_EMS, "grpc")
+                            .withChild("enable", x -> x.withAttribute(Netconf.NS_NETCONF, "operation", "remove")));
+                session.commit();
+                if (disableGRPC)
+                    state.disableGRPC = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.google.protobuf.CodedOutputStream;
+import com.xl4.netconf.grpc.GNMI;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Recording of live telemetry streams to append-only files, which can be replayed with TelemetryReplay.
+ *
+ * Frames are stored as received: MDT messages and gNMI notifications as protobuf. Each frame is preceded by its
+ * length, the time it was received and its kind. Frames are collected in a direct buffer which is written in one go
+ * once it is full and every second, also if the stream went quiet, protobuf messages are serialized right into the
+ * buffer. A recording is split into segments of limited size, so finished segments can
+ * be copied or deleted while recording continues.
+ *
+ * Recording errors don't affect the stream, the recorder stops and keeps the error instead.
+ */
+class TelemetryRecorder implements AutoCloseable {
+    // Segment header, "ANXR" and the version of the format
+    static final int MAGIC = 0x414e5852;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+
+    // Frame header: length, timestamp and kind
+    static final int FRAME_HEADER_SIZE = 13;
+
+    static final String SUFFIX = ".rec";
+
+    private static final long SEGMENT_SIZE = 64L << 20;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final long FLUSH_INTERVAL = 1000;
+
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "anx-recorder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Kind of a frame, which determines how it is replayed
+     */
+    enum Kind {
+        MDT, GNMI;
+
+        static Kind valueOf(int ordinal) {
+            Kind[] kinds = values();
+            return ordinal >= 0 && ordinal < kinds.length ? kinds[ordinal] : null;
+        }
+    }
+
+    private Path directory;
+    private String name;
+    private int segment;
+    private FileChannel channel;
+    private long written;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private ScheduledFuture<?> flusher;
+    private long frames;
+    private IOException error;
+
+    /**
+     * Start a new recording
+     * @param directory directory containing the segments, created if necessary
+     * @param name      name of the recording, segments are named after it
+     * @throws IOException
+     */
+    TelemetryRecorder(Path directory, String name) throws IOException {
+        this.directory = directory;
+        this.name = name;
+        Files.createDirectories(directory);
+        if (!getSegments(directory, name).isEmpty())
+            throw new IOException("Recording " + name + " already exists");
+        openSegment();
+        flusher = timer.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL, FLUSH_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the segments of a recording in order
+     * @param directory
+     * @param name
+     * @return
+     * @throws IOException
+     */
+    static List<Path> getSegments(Path directory, String name) throws IOException {
+        if (!Files.isDirectory(directory))
+            return Collections.emptyList();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Pattern pattern = Pattern.compile(Pattern.quote(name) + "-[0-9]{6}" + Pattern.quote(SUFFIX));
+            return files.filter(x -> pattern.matcher(x.getFileName().toString()).matches())
+                    .sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Get the names of the recordings in a directory, newest first
+     * @param directory
+     * @param prefix start of the names
+     * @return
+     * @throws IOException
+     */
+    static List<String> getRecordings(Path directory, String prefix) throws IOException {
+        if (!Files.isDirectory(directory))
+            return Collections.emptyList();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Pattern pattern = Pattern.compile("(" + Pattern.quote(prefix) + ".*)-[0-9]{6}" + Pattern.quote(SUFFIX));
+            return files.map(x -> pattern.matcher(x.getFileName().toString())).filter(Matcher::matches)
+                    .map(x -> x.group(1)).distinct().sorted(Collections.reverseOrder()).collect(Collectors.toList());
+        }
+    }
+
+    private void openSegment() throws IOException {
+        Path path = directory.resolve(String.format("%s-%06d%s", name, segment++, SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        written = 0;
+        buffer.putInt(MAGIC).putInt(VERSION);
+    }
+
+    /**
+     * Record an MDT message as received by GRPCClient.createSubscription
+     * @param message
+     */
+    synchronized void recordMDT(byte[] message) {
+        try {
+            if (reserve(message.length)) {
+                putHeader(Kind.MDT, message.length);
+                buffer.put(message);
+            } else {
+                writeDirect(Kind.MDT, ByteBuffer.wrap(message));
+            }
+            ++frames;
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Record a gNMI notification as received by GRPCClient.subscribeRequest
+     * @param notification
+     */
+    synchronized void recordGNMI(GNMI.Notification notification) {
+        try {
+            int size = notification.getSerializedSize();
+            if (reserve(size)) {
+                putHeader(Kind.GNMI, size);
+                CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+                notification.writeTo(output);
+                output.flush();
+            } else {
+                writeDirect(Kind.GNMI, ByteBuffer.wrap(notification.toByteArray()));
+            }
+            ++frames;
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    // Make room for a frame in the buffer, starting a new segment if necessary, and return whether it fits
+    private boolean reserve(int size) throws IOException {
+        if (channel == null)
+            throw new IOException("Recording stopped", error);
+
+        long frameSize = FRAME_HEADER_SIZE + (long)size;
+        if (written + buffer.position() + frameSize > SEGMENT_SIZE && written + buffer.position() > HEADER_SIZE) {
+            writeBuffer();
+            channel.close();
+            openSegment();
+        }
+
+        if (buffer.remaining() < frameSize)
+            writeBuffer();
+        return buffer.remaining() >= frameSize;
+    }
+
+    private void putHeader(Kind kind, int size) {
+        buffer.putInt(size).putLong(System.currentTimeMillis()).put((byte)kind.ordinal());
+    }
+
+    // Frames larger than the buffer are written together with their header right away
+    private void writeDirect(Kind kind, ByteBuffer payload) throws IOException {
+        putHeader(kind, payload.remaining());
+        writeBuffer();
+        while (payload.hasRemaining())
+            written += channel.write(payload);
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            written += channel.write(buffer);
+        buffer.clear();
+    }
+
+    private void fail(IOException e) {
+        if (error == null) {
+            error = e;
+            e.printStackTrace();
+        }
+        close();
+    }
+
+    /**
+     * Write all frames recorded so far, called every second while recording
+     */
+    synchronized void flush() {
+        try {
+            if (channel != null && buffer.position() > 0)
+                writeBuffer();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Get the number of frames recorded
+     * @return
+     */
+    synchronized long getFrames() {
+        return frames;
+    }
+
+    /**
+     * Get the error which stopped the recording
+     * @return error or null
+     */
+    synchronized IOException getError() {
+        return error;
+    }
+
+    /**
+     * Stop recording and write all remaining frames
+     */
+    @Override
+    public synchronized void close() {
+        if (channel == null)
+            return;
+
+        flusher.cancel(false);
+        try {
+            if (error == null)
+                writeBuffer();
+        } catch (IOException e) {
+            error = e;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        channel = null;
+    }
+}
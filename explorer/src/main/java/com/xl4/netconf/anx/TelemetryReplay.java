@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.xl4.netconf.grpc.GNMI;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Replay of a recording made by TelemetryRecorder into the consumers used for live streams.
+ *
+ * Segments are memory-mapped one at a time and frames are handed to the consumer of their kind either with the
+ * delays between them as recorded, optionally sped up, or as fast as possible, e.g. to benchmark consumers.
+ * A frame cut short at the end of a segment, e.g. when the recording process died, ends the segment.
+ */
+class TelemetryReplay {
+    private Path directory;
+    private String name;
+    private Consumer<byte[]> mdtConsumer;
+    private Consumer<GNMI.Notification> gnmiConsumer;
+    private volatile boolean cancelled;
+
+    /**
+     * Prepare the replay of a recording
+     * @param directory directory containing the segments
+     * @param name      name of the recording
+     */
+    TelemetryReplay(Path directory, String name) {
+        this.directory = directory;
+        this.name = name;
+    }
+
+    /**
+     * Set the consumer for MDT messages, as passed to GRPCClient.createSubscription
+     * @param mdtConsumer
+     * @return
+     */
+    TelemetryReplay withMDTConsumer(Consumer<byte[]> mdtConsumer) {
+        this.mdtConsumer = mdtConsumer;
+        return this;
+    }
+
+    /**
+     * Set the consumer for gNMI notifications, as passed to GRPCClient.subscribeRequest
+     * @param gnmiConsumer
+     * @return
+     */
+    TelemetryReplay withGNMIConsumer(Consumer<GNMI.Notification> gnmiConsumer) {
+        this.gnmiConsumer = gnmiConsumer;
+        return this;
+    }
+
+    /**
+     * Replay all frames in the calling thread
+     * @param speed factor applied to the recorded pace, e.g. 1 for recorded speed, or 0 for as fast as possible
+     * @return number of frames replayed
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    long run(double speed) throws IOException, InterruptedException {
+        List<Path> segments = TelemetryRecorder.getSegments(directory, name);
+        if (segments.isEmpty())
+            throw new IOException("Recording " + name + " not found");
+
+        long frames = 0;
+        long first = -1;
+        long started = System.nanoTime();
+        for (Path segment: segments) {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+
+            if (buffer.remaining() < TelemetryRecorder.HEADER_SIZE ||
+                    buffer.getInt() != TelemetryRecorder.MAGIC || buffer.getInt() != TelemetryRecorder.VERSION)
+                throw new IOException("Invalid recording segment " + segment.getFileName());
+
+            while (buffer.remaining() >= TelemetryRecorder.FRAME_HEADER_SIZE && !cancelled) {
+                int size = buffer.getInt();
+                long timestamp = buffer.getLong();
+                TelemetryRecorder.Kind kind = TelemetryRecorder.Kind.valueOf(buffer.get());
+                if (size < 0 || size > buffer.remaining())
+                    break;
+
+                ByteBuffer payload = buffer.slice();
+                payload.limit(size);
+                buffer.position(buffer.position() + size);
+
+                if (first < 0)
+                    first = timestamp;
+                if (speed > 0) {
+                    long delay = (long)((timestamp - first) / speed) -
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    if (delay > 0)
+                        Thread.sleep(delay);
+                }
+
+                if (kind != null)
+                    dispatch(kind, payload);
+                ++frames;
+            }
+        }
+        return frames;
+    }
+
+    private void dispatch(TelemetryRecorder.Kind kind, ByteBuffer payload) throws IOException {
+        switch (kind) {
+            case MDT:
+                if (mdtConsumer != null) {
+                    byte[] message = new byte[payload.remaining()];
+                    payload.get(message);
+                    mdtConsumer.accept(message);
+                }
+                break;
+            case GNMI:
+                if (gnmiConsumer != null)
+                    gnmiConsumer.accept(GNMI.Notification.parseFrom(payload));
+                break;
+        }
+    }
+
+    /**
+     * Stop a running replay after the current frame
+     */
+    void cancel() {
+        cancelled = true;
+    }
+}
@@ -18,19 +18,18 @@
 
 package com.xl4.netconf.anx;
 
-import com.xl4.netconf.grpc.GRPCClient;
-import com.xl4.netconf.grpc.GRPCClient.SubscriptionEncoding;
 import com.xl4.netconf.grpc.GRPCClient.GRPCException;
-import com.xl4.netconf.grpc.GRPCClient.GRPCClientSecurity;
+import com.xl4.netconf.grpc.TelemetryDecoder;
+import com.xl4.netconf.grpc.TelemetryStore;
+import com.xl4.netconf.grpc.XRTelemetry;
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.xl4.netconf.anc.*;
-import com.xl4.netconf.anc.Netconf.Datastore;
+import com.vaadin.data.provider.DataProvider;
 import com.vaadin.data.provider.Query;
 import com.vaadin.event.ShortcutAction;
 import com.vaadin.icons.VaadinIcons;
 import com.vaadin.ui.*;
 import com.vaadin.ui.themes.ValoTheme;
-import elemental.json.*;
-import elemental.json.impl.JsonUtil;
 import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
 
@@ -47,22 +46,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import javax.net.ssl.SSLHandshakeException;
 
 /**
  * Telemetry support tools 
@@ -71,7 +68,38 @@ public class TelemetryTools {
     private MainView view;
     private ComboBox<XMLElement> sensorGroupSelect;
     private static final String NS_TELEMETRY = "http://cisco.com/ns/yang/Cisco-IOS-XR-telemetry-model-driven-cfg";
-    private static final String NS_EMS = "http://cisco.com/ns/yang/Cisco-IOS-XR-man-ems-cfg";
+
+    // Number of latest measurements kept per subscription
+    private static final int MAX_SAMPLES = 1000;
+
+    // Measurement as received in key-value GPB encoding, the data is only decoded once it is selected
+    private static class Sample {
+        private byte[] message;
+        private long timestamp;
+        private String path = "";
+
+        Sample(byte[] message, XRTelemetry.Telemetry telemetry) {
+            this.message = message;
+            timestamp = telemetry.getMsgTimestamp();
+            path = telemetry.getEncodingPath();
+        }
+
+        Sample(byte[] message, InvalidProtocolBufferException error) {
+            this.message = message;
+            path = "Invalid message: " + error.getMessage();
+        }
+
+        String decode(TelemetryDecoder decoder) {
+            StringBuilder text = new StringBuilder();
+            try {
+                decoder.decode(message, x -> text.append(x.getKeys().isEmpty() ? "" : "[" + x.getKeys() + "] ")
+                        .append(x.getName()).append(" = ").append(x.getText()).append('\n'));
+            } catch (InvalidProtocolBufferException e) {
+                text.append("Invalid message: ").append(e.getMessage());
+            }
+            return text.toString();
+        }
+    }
 
     TelemetryTools(MainView view) {
         this.view = view;
@@ -300,84 +328,85 @@ public class TelemetryTools {
     }
 
     private void showGroupSubscribe(XMLElement sensorGroup) {
-        // Render sensor group subscription
-
+        // Render sensor group subscription, shared with other viewers of the same group on the device
         String groupID = sensorGroup.getText("sensor-group-identifier");
-        String subscriptionID = String.format("anx-%d", System.currentTimeMillis());
-        int grpcPort = 57400;
-
-        XMLElement subscriptionConfig = new XMLElement(NS_TELEMETRY, "telemetry-model-driven")
-                .withChild("subscriptions", x -> x.createChild("subscription")
-                        .withTextContent("subscription-identifier", subscriptionID)
-                        .createChild("sensor-profiles").createChild("sensor-profile")
-                                .withTextContent("sample-interval", "15000")
-                                .withTextContent("sensorgroupid", groupID));
-        XMLElement grpcConfig = new XMLElement(NS_EMS, "grpc").withChild("enable");
-
-        Window loadingWindow = showLoadingWindow("Configuring GRPC and Telemetry subscription...");
-
-        try (NetconfSession session = view.client.createSession()) {
-            XMLElement grpc = session.getConfig(Netconf.Datastore.RUNNING,
-                    Arrays.asList(new XMLElement(NS_EMS, "grpc")), "get-config").getOrEmpty(NS_EMS, "grpc");
-            grpcPort = Integer.parseInt(grpc.getTextOrDefault("port", "57400"));
-
-            session.editConfig(Datastore.CANDIDATE, grpcConfig);
-            session.editConfig(Datastore.CANDIDATE, subscriptionConfig);
-            session.commit();
-
-            // If GRPC was not enabled, disable it afterwards
-            if (!grpc.getFirst("enable").isPresent())
-                grpcConfig.getOrEmpty("enable").withAttribute(Netconf.NS_NETCONF, "operation", "remove");
-        } catch (NetconfException e) {
-            Notification.show("Failed to enable GRPC or Telemetry subscription: " + e.getMessage(),
-                    Notification.Type.ERROR_MESSAGE);
-            e.printStackTrace();
-        }
-
-        loadingWindow.close();
 
         VerticalLayout liveLayout = new VerticalLayout();
-        ComboBox<JsonObject> measurements = new ComboBox<>("Measurement");
-        TextArea data = new TextArea("Telemetry Data (JSON format)");
+        TextArea data = new TextArea("Telemetry Data");
         data.setReadOnly(true);
         data.setValue("Waiting for first measurement...");
         data.setSizeFull();
 
+        // Only the rows in view are fetched from the buffer, newest first
+        RingBuffer<Sample> samples = new RingBuffer<>(MAX_SAMPLES);
+        TelemetryDecoder decoder = new TelemetryDecoder();
+
+        // Numeric leafs of all measurements are kept as time series
+        TelemetryStore store = new TelemetryStore();
+        TelemetryDecoder storeDecoder = new TelemetryDecoder();
+        SeriesGrid series = new SeriesGrid("Numeric leafs", store);
+        series.setSizeFull();
+        TabSheet details = new TabSheet();
+        details.addTab(data, "Message");
+        details.addTab(series, "Time series");
+        details.setSizeFull();
+        Grid<Sample> measurements = new Grid<>("Measurements");
+        measurements.setDataProvider(DataProvider.fromCallbacks(
+                query -> samples.getNewest(query.getOffset(), query.getLimit()), query -> samples.size()));
+        measurements.addColumn(x -> String.format("%tT", x.timestamp)).setCaption("Time").setWidth(120);
+        measurements.addColumn(x -> x.path).setCaption("Encoding Path");
         measurements.setWidth("100%");
-        measurements.setEmptySelectionAllowed(false);
-        measurements.setTextInputAllowed(false);
-        measurements.setItemCaptionGenerator(x -> String.format("[%tT] %s",
-                Long.parseLong(x.getString("msg_timestamp")), x.getString("encoding_path")));
-        measurements.addValueChangeListener(x -> data.setValue(JsonUtil.stringify(x.getValue(), 2)));
-
-        GRPCClient tlsClient = new GRPCClient(view.host, grpcPort,
-                view.username, view.password, GRPCClientSecurity.TLS_UNVERIFIED);
-        GRPCClient plainClient = new GRPCClient(view.host, grpcPort,
-                view.username, view.password, GRPCClientSecurity.PLAINTEXT);
-
-        LinkedList<JsonObject> telemetryData = new LinkedList<>();
-        Consumer<byte[]> telemetryConsumer = x -> view.getUI().access(() -> {
-            telemetryData.add(Json.parse(new String(x, StandardCharsets.UTF_8)));
-            measurements.setItems(telemetryData);
-
-            if (telemetryData.size() == 1)
-                measurements.setValue(telemetryData.get(0));
+        measurements.setHeight("250px");
+        measurements.asSingleSelect().addValueChangeListener(x -> {
+            if (x.getValue() != null)
+                data.setValue(x.getValue().decode(decoder));
         });
-        Consumer<Throwable> shutdownConsumer = new Consumer<Throwable>() {
-			@Override
-			public void accept(Throwable t) {
-                if (t instanceof GRPCException) {
-                    Notification.show("Subscription error: " + t.getMessage());
-                } else if (t != null && t.getCause() instanceof SSLHandshakeException) {
-                    plainClient.createSubscription(subscriptionID, SubscriptionEncoding.JSON,
-                        telemetryConsumer, this);
-                } else if (t != null) {
-                    t.printStackTrace();
-                }	
-			}
+
+        // Measurements arriving between two updates of the UI are shown at once
+        PushCoalescer coalescer = PushCoalescer.get(view.getUI());
+        RecordingToggle record = new RecordingToggle("mdt-" + groupID);
+        AtomicReference<TelemetryHub.Viewer> viewer = new AtomicReference<>();
+        Consumer<byte[]> sampleConsumer = x -> {
+            try {
+                XRTelemetry.Telemetry telemetry = XRTelemetry.Telemetry.parseFrom(x);
+                samples.add(new Sample(x, telemetry));
+                storeDecoder.decode(telemetry, store::add);
+            } catch (InvalidProtocolBufferException e) {
+                samples.add(new Sample(x, e));
+                e.printStackTrace();
+            }
+
+            coalescer.update(samples, () -> {
+                measurements.getDataProvider().refreshAll();
+                if (details.getSelectedTab() == series)
+                    series.refresh();
+                measurements.setCaption(String.format("Measurements (latest %d of %d, %d dropped, %d viewers)",
+                        samples.size(), samples.getTotal(), viewer.get().getDropped(), viewer.get().getViewers()));
+                if (measurements.getSelectedItems().isEmpty())
+                    samples.getNewest(0, 1).findAny().ifPresent(measurements::select);
+            });
         };
 
-        tlsClient.createSubscription(subscriptionID, SubscriptionEncoding.JSON, telemetryConsumer, shutdownConsumer);
+        // Live measurements are still recorded while a recording is replayed, but not shown
+        ReplayControl replay = new ReplayControl("mdt-" + groupID, x -> x.withMDTConsumer(sampleConsumer));
+        Consumer<byte[]> telemetryConsumer = x -> {
+            TelemetryRecorder recorder = record.getRecorder();
+            if (recorder != null)
+                recorder.recordMDT(x);
+            if (!replay.isReplaying())
+                sampleConsumer.accept(x);
+        };
+        Consumer<Throwable> errorConsumer = t -> {
+            if (t instanceof NetconfException) {
+                coalescer.update(t, () -> Notification.show("Failed to enable GRPC or Telemetry subscription: " +
+                        t.getMessage(), Notification.Type.ERROR_MESSAGE));
+            } else {
+                if (!(t instanceof GRPCException))
+                    t.printStackTrace();
+                coalescer.update(t, () -> Notification.show("Subscription error: " + t.getMessage()));
+            }
+        };
+        viewer.set(TelemetryHub.getInstance().subscribeGroup(view, groupID, telemetryConsumer, errorConsumer));
 
         Window liveWindow = new Window("Live Telemetry data: ".concat(groupID));
         liveWindow.setModal(true);
@@ -386,32 +415,15 @@ public class TelemetryTools {
         liveWindow.setWidth("1000px");
         liveWindow.setHeight("700px");
         liveWindow.addCloseListener(c -> {
-            Window unloadingWindow = showLoadingWindow("Deconfiguring Telemetry subscription...");
-
-            try {
-                tlsClient.close();
-                plainClient.close();
-            } catch (Exception e) {
-                
-            }
-
-            try (NetconfSession session = view.client.createSession()) {
-                session.editConfig(Datastore.CANDIDATE, new XMLElement(NS_TELEMETRY, "telemetry-model-driven")
-                        .withChild("subscriptions", x -> x.createChild("subscription")
-                                .withAttribute(Netconf.NS_NETCONF, "operation", "remove")
-                                .withTextContent("subscription-identifier", subscriptionID)));
-                session.editConfig(Datastore.CANDIDATE, grpcConfig);
-                session.commit();
-            } catch (NetconfException e) {
-                Notification.show("Failed to enable GRPC or Telemetry subscription: " + e.getMessage(),
-                        Notification.Type.ERROR_MESSAGE);
-                e.printStackTrace();
-            }
-
-            unloadingWindow.close();
+            record.stop();
+            replay.stop();
+            viewer.get().close();
         });
-        liveLayout.addComponents(measurements, data);
-        liveLayout.setExpandRatio(data, 1.0f);
+        details.addSelectedTabChangeListener(x -> series.refresh());
+        HorizontalLayout controls = new HorizontalLayout(record, replay);
+        controls.setDefaultComponentAlignment(Alignment.MIDDLE_LEFT);
+        liveLayout.addComponents(controls, measurements, details);
+        liveLayout.setExpandRatio(details, 1.0f);
         liveLayout.setSizeFull();
         liveWindow.setContent(liveLayout);
         UI.getCurrent().addWindow(liveWindow);
@@ -20,8 +20,6 @@ package com.xl4.netconf.anx;
 
 import com.xl4.netconf.anc.Netconf;
 import com.xl4.netconf.anc.XMLElement;
-import com.vaadin.data.TreeData;
-import com.vaadin.ui.Tree;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.model.api.*;
 import org.opendaylight.yangtools.yang.model.api.Module;
@@ -30,8 +28,10 @@ import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -44,34 +44,48 @@ class WrappedYangNode {
     private String namespace;
     private String name;
     private String description;
-    private boolean expand;
     private boolean configuration;
-    private static HashMap<String,String> prefixes = new HashMap<>();
-
-    WrappedYangNode(WrappedYangNode parent, DataSchemaNode node) {
+    private Map<String,String> prefixes;
+    private volatile List<WrappedYangNode> children;
+    private volatile Map<String,WrappedYangNode> childrenByName;
+
+    // Derived strings, computed on first use
+    private String caption;
+    private String type;
+    private String xpath;
+    private String sensorPath;
+    private String keyedSensorPath;
+    private String maagicPath;
+    private String qualifiedMaagicPath;
+
+    private WrappedYangNode(WrappedYangNode parent, DataSchemaNode node) {
         this.parent = parent;
         this.node = node;
         this.namespace = node.getQName().getNamespace().toString();
         this.name = node.getQName().getLocalName();
         this.description = node.getDescription().orElse("");
         this.configuration = node.isConfiguration();
+        this.prefixes = parent.prefixes;
     }
 
-    WrappedYangNode(Module module) {
+    /**
+     * Create module node, all schema nodes of a schema context are created below their module node
+     * @param module
+     * @param prefixes prefixes of all modules of the schema context by namespace
+     */
+    WrappedYangNode(Module module, Map<String,String> prefixes) {
         this.module = module;
         this.namespace = module.getNamespace().toString();
         this.name = module.getName();
         this.description = module.getDescription().orElse("");
-        prefixes.put(namespace, module.getPrefix());
+        this.prefixes = prefixes;
     }
 
-    // Lookup YANG node from path
+    // Lookup YANG node from path, choice and case nodes are skipped as they don't appear in data
     static Optional<WrappedYangNode> byPath(WrappedYangNode module, String path) {
         Optional<WrappedYangNode> node = Optional.of(module);
-        for (String element: path.split("/")) {
-            //FIXME: we need to filter any choice-nodes here?
+        for (String element: path.split("/"))
             node = node.flatMap(n -> n.getChild(element));
-        }
         return node;
     }
 
@@ -80,70 +94,91 @@ class WrappedYangNode {
     }
 
     String getCaption() {
-        String caption = getName();
-        if (parent != null && (parent.node == null || !parent.namespace.equals(namespace)))
-            caption += " (" + namespace + ")";
+        if (caption == null) {
+            String caption = getName();
+            if (parent != null && (parent.node == null || !parent.namespace.equals(namespace)))
+                caption += " (" + namespace + ")";
+            this.caption = caption;
+        }
         return caption;
     }
 
-    String getSensorPath(boolean keyed, XMLElement data) {
-        String path = name;
-        if (keyed && node instanceof ListSchemaNode) {
-            // For lists, we need to include key leafs
+    // Get nearest ancestor which appears in data, i.e. skipping choice and case nodes
+    private WrappedYangNode getDataParent() {
+        WrappedYangNode node = parent;
+        while (node != null && (node.node instanceof CaseSchemaNode || node.node instanceof ChoiceSchemaNode))
+            node = node.parent;
+        return node;
+    }
+
+    // Get list keys formatted for sensor paths
+    private String getSensorKeys(XMLElement data) {
+        StringBuilder keys = new StringBuilder();
+        if (node instanceof ListSchemaNode) {
             for (QName key : ((ListSchemaNode)node).getKeyDefinition()) {
                 String value = '{' + key.getLocalName() + '}';
                 if (data != null)
                     value = data.getTextOrDefault(key.getNamespace().toString(), key.getLocalName(), value);
-                path = path + "[" + key.getLocalName() + "=" + value + "]";
+                keys.append('[').append(key.getLocalName()).append('=').append(value).append(']');
             }
         }
+        return keys.toString();
+    }
 
-        for (WrappedYangNode node = this.parent; node != null; node = node.parent) {
-            if (node.node instanceof CaseSchemaNode || node.node instanceof ChoiceSchemaNode)
-                continue;
-
-            if (data != null)
-                data = data.getParent();
-
-            String keys = "";
-            if (keyed && node.node instanceof ListSchemaNode) {
-                // For lists, we need to include key leafs
-                for (QName key : ((ListSchemaNode)(node.node)).getKeyDefinition()) {
-                    String value = '{' + key.getLocalName() + '}';
-                    if (data != null)
-                        value = data.getTextOrDefault(key.getNamespace().toString(), key.getLocalName(), value);
-                    keys = keys + "[" + key.getLocalName() + "=" + value + "]";
-                }
+    String getSensorPath(boolean keyed, XMLElement data) {
+        if (data != null) {
+            // Key values are taken from the data, so the path can't be cached
+            String path = name + (keyed ? getSensorKeys(data) : "");
+            for (WrappedYangNode node = getDataParent(); node != null; node = node.getDataParent()) {
+                if (data != null)
+                    data = data.getParent();
+                path = node.name + (keyed ? node.getSensorKeys(data) : "") + (node.module != null ? ':' : '/') + path;
             }
+            return path;
+        }
 
-            path = node.name + keys + (node.module != null ? ':' : '/') + path;
+        String path = keyed ? keyedSensorPath : sensorPath;
+        if (path == null) {
+            // For lists, we need to include key leafs
+            WrappedYangNode dataParent = getDataParent();
+            path = name + (keyed ? getSensorKeys(null) : "");
+            if (dataParent != null)
+                path = dataParent.getSensorPath(keyed, null) + (dataParent.module != null ? ':' : '/') + path;
+
+            if (keyed)
+                keyedSensorPath = path;
+            else
+                sensorPath = path;
         }
         return path;
     }
 
     String getXPath() {
-        String path = String.format("%s:%s", prefixes.get(namespace), name);
-        for (WrappedYangNode node = this.parent; node != null && node.node != null; node = node.parent) {
-            if (!(node.node instanceof CaseSchemaNode) && !(node.node instanceof ChoiceSchemaNode))
-                path = String.format("%s:%s/%s", prefixes.get(node.namespace), node.name, path);
+        if (xpath == null) {
+            WrappedYangNode dataParent = getDataParent();
+            xpath = (dataParent != null && dataParent.node != null ? dataParent.getXPath() : "") +
+                    '/' + prefixes.get(namespace) + ':' + name;
         }
-        return "/" + path;
+        return xpath;
     }
 
     String getMaagic(boolean qualified) {
-        String nodeName = name.replaceAll("[-.]", "_");
-        if (node instanceof ListSchemaNode)
-            nodeName += "[...]";
-        String path = !qualified ? nodeName :
-            String.format("%s__%s", prefixes.get(namespace).replaceAll("[-.]", "_"), nodeName);
-        for (WrappedYangNode node = this.parent; node != null && node.node != null; node = node.parent) {
-            if (!(node.node instanceof CaseSchemaNode) && !(node.node instanceof ChoiceSchemaNode)) {
-                nodeName = node.name.replaceAll("[-.]", "_");
-                if (node.node instanceof ListSchemaNode)
-                    nodeName += "[...]";
-                path = !qualified ? String.format("%s.%s", nodeName, path) :
-                    String.format("%s__%s.%s", prefixes.get(node.namespace).replaceAll("[-.]", "_"), nodeName, path);
-            }
+        String path = qualified ? qualifiedMaagicPath : maagicPath;
+        if (path == null) {
+            path = name.replace('-', '_').replace('.', '_');
+            if (node instanceof ListSchemaNode)
+                path += "[...]";
+            if (qualified)
+                path = prefixes.get(namespace).replace('-', '_').replace('.', '_') + "__" + path;
+
+            WrappedYangNode dataParent = getDataParent();
+            if (dataParent != null && dataParent.node != null)
+                path = dataParent.getMaagic(qualified) + '.' + path;
+
+            if (qualified)
+                qualifiedMaagicPath = path;
+            else
+                maagicPath = path;
         }
         return path;
     }
@@ -153,22 +188,25 @@ class WrappedYangNode {
     }
 
     String getType() {
-        if (node instanceof AnyxmlSchemaNode)
-            return "anyxml";
-        else if (node instanceof CaseSchemaNode)
-            return "case";
-        else if (node instanceof ChoiceSchemaNode)
-            return "choice";
-        else if (node instanceof ContainerSchemaNode)
-            return "container";
-        else if (node instanceof LeafSchemaNode)
-            return "leaf";
-        else if (node instanceof LeafListSchemaNode)
-            return "leaf-list";
-        else if (node instanceof ListSchemaNode)
-            return "list";
-        else
-            return "module";
+        if (type == null) {
+            if (node instanceof AnyxmlSchemaNode)
+                type = "anyxml";
+            else if (node instanceof CaseSchemaNode)
+                type = "case";
+            else if (node instanceof ChoiceSchemaNode)
+                type = "choice";
+            else if (node instanceof ContainerSchemaNode)
+                type = "container";
+            else if (node instanceof LeafSchemaNode)
+                type = "leaf";
+            else if (node instanceof LeafListSchemaNode)
+                type = "leaf-list";
+            else if (node instanceof ListSchemaNode)
+                type = "list";
+            else
+                type = "module";
+        }
+        return type;
     }
 
     String getLeafRef() {
@@ -191,9 +229,6 @@ class WrappedYangNode {
                 XMLElement childElement = dataChildElement.isPresent() ?
                         dataChildElement.get() : element.createChild(childNS, childName);
 
-                childElement.withAttribute("expand", null);
-                childElement.withAttribute("root", null);
-
                 addChildren(childElement, child);
 
                 if (!dataChildElement.isPresent()) {
@@ -215,9 +250,6 @@ class WrappedYangNode {
             if (data != null)
                 element = data;
 
-            // Remove any meta-attributes we may have added elsewhere
-            element.withAttribute("expand", null);
-            element.withAttribute("root", null);
             addChildren(element, node);
         } else if (operation != null || data != null) {
             if (operation != null && !operation.isEmpty())
@@ -237,6 +269,11 @@ class WrappedYangNode {
             }
         }
 
+        return wrapTemplate(element, data);
+    }
+
+    // Wrap a template in the data nodes of the ancestors, list keys are populated from associated data if available
+    private Optional<XMLElement> wrapTemplate(XMLElement element, XMLElement data) {
         // If we have associated data from the peer populate it in the XML template
         for (WrappedYangNode node = this.parent; node != null && node.node != null; node = node.parent) {
             if (!(node.node instanceof CaseSchemaNode) && !(node.node instanceof ChoiceSchemaNode)) {
@@ -267,6 +304,37 @@ class WrappedYangNode {
         return createNetconfTemplate(null, null);
     }
 
+    // Get the children of a schema node as they appear in data, i.e. with choice and case nodes left out
+    private static Stream<DataSchemaNode> getDataChildren(DataSchemaNode node) {
+        Collection<? extends DataSchemaNode> children = (node instanceof ChoiceSchemaNode) ?
+                ((ChoiceSchemaNode)node).getCases().values() : (node instanceof DataNodeContainer) ?
+                ((DataNodeContainer)node).getChildNodes() : Collections.emptyList();
+        return children.stream().flatMap(child -> (child instanceof ChoiceSchemaNode || child instanceof CaseSchemaNode) ?
+                getDataChildren(child) : Stream.of(child));
+    }
+
+    private static boolean containsList(DataSchemaNode node) {
+        return getDataChildren(node).anyMatch(child -> child instanceof ListSchemaNode || containsList(child));
+    }
+
+    // Select only the key leafs of list entries, subtrees without any lists are selected completely
+    private static void addKeys(XMLElement element, DataSchemaNode node) {
+        if (node instanceof ListSchemaNode) {
+            for (QName key: ((ListSchemaNode)node).getKeyDefinition())
+                element.createChild(key.getNamespace().toString(), key.getLocalName());
+        } else if (containsList(node)) {
+            getDataChildren(node).forEach(child -> addKeys(element.createChild(
+                    child.getQName().getNamespace().toString(), child.getQName().getLocalName()), child));
+        }
+    }
+
+    // Create subtree filter retrieving only the keys of list entries at or below the current YANG node
+    Optional<XMLElement> createKeysTemplate() {
+        XMLElement element = new XMLElement(namespace, name);
+        addKeys(element, node);
+        return wrapTemplate(element, null);
+    }
+
     // Get the names of the key leafs 
     Stream<String> getKeys() {
         return (node instanceof ListSchemaNode)
@@ -290,66 +358,6 @@ class WrappedYangNode {
         return parent;
     }
 
-    // Populate YANG schema nodes, based on a filter applied to names and descriptions
-    boolean addToTree(TreeData<WrappedYangNode> data, Collection<String> filter) {
-        String nodeName = name.toLowerCase();
-        String nodeDescription = description.toLowerCase();
-        boolean okay = filter.stream().filter(nodeName::contains).count() == filter.size() ||
-                filter.stream().filter(nodeDescription::contains).count() == filter.size();
-
-        if (node != null)
-            data.addItem(parent.node != null ? parent : null, this);
-
-        if (!filter.isEmpty()) {
-            if (parent != null)
-                parent.expand = true;
-
-            if (okay)
-                filter = Collections.emptyList();
-        }
-
-        // Recursively add child nodes to YANG schema tree
-        if (module != null) {
-            for (Module submodule: module.getSubmodules()) {
-                for (DataSchemaNode childNode: submodule.getChildNodes()) {
-                    if (new WrappedYangNode(this, childNode).addToTree(data, filter))
-                        okay = true; // if children matches filter, populate match up to current element
-                }
-            }
-        }
-
-        DataNodeContainer container = module != null ? module :
-                node instanceof DataNodeContainer ? (DataNodeContainer)node : null;
-        if (container != null) {
-            HashSet<DataSchemaNode> addedNodes = new HashSet<>();
-            for (DataSchemaNode childNode : container.getChildNodes()) {
-                WrappedYangNode child = new WrappedYangNode(this, childNode);
-                if (child.addToTree(data, filter)) {
-                    addedNodes.add(childNode);
-                    okay = true;
-                }
-            }
-
-            // Some of the children has matched, add adjacent leafs for context
-            if (!filter.isEmpty() && okay) {
-                for (DataSchemaNode childNode : container.getChildNodes())
-                    if (!addedNodes.contains(childNode) &&
-                            (childNode instanceof LeafSchemaNode || childNode instanceof LeafListSchemaNode))
-                        new WrappedYangNode(this, childNode).addToTree(data, Collections.emptyList());
-            }
-        }
-
-        // If neither current element nor children match filter, remove current
-        try {
-            if (!okay)
-                data.removeItem(this);
-        } catch (IllegalArgumentException e) {
-            // ignore if element is not in tree anyway
-        }
-
-        return okay;
-    }
-
     String getDescription() {
         return description;
     }
@@ -363,32 +371,44 @@ class WrappedYangNode {
     }
 
     public Stream<WrappedYangNode> getChildren() {
-		if (node instanceof ChoiceSchemaNode) {
-			return ((ChoiceSchemaNode)node).getCases().values().stream().map(n -> new WrappedYangNode(this, n));
-		} else {
-			DataNodeContainer container = module != null ? module
-					: node instanceof DataNodeContainer ? (DataNodeContainer) node : null;
-			return (container == null) ? Stream.empty()
-					: container.getChildNodes().stream().map(n -> new WrappedYangNode(this, n));
-		}
-	}
+        // Child nodes are created once so there is a single wrapper for each schema node of a schema context
+        List<WrappedYangNode> children = this.children;
+        if (children == null) {
+            Collection<? extends DataSchemaNode> childNodes;
+            if (node instanceof ChoiceSchemaNode) {
+                childNodes = ((ChoiceSchemaNode)node).getCases().values();
+            } else {
+                DataNodeContainer container = module != null ? module
+                        : node instanceof DataNodeContainer ? (DataNodeContainer) node : null;
+                childNodes = (container == null) ? Collections.emptyList() : container.getChildNodes();
+            }
+            children = childNodes.stream().map(n -> new WrappedYangNode(this, n)).collect(Collectors.toList());
+            this.children = children;
+        }
+        return children.stream();
+    }
 
     Optional<WrappedYangNode> getChild(String name) {
-        return getChildren().filter(node -> node.getName().equals(name)).findAny();
+        Map<String,WrappedYangNode> childrenByName = this.childrenByName;
+        if (childrenByName == null) {
+            HashMap<String,WrappedYangNode> names = new HashMap<>();
+            addChildNames(names);
+
+            // Choice and case nodes can be addressed directly as well, but data nodes take precedence
+            getChildren().forEach(child -> names.putIfAbsent(child.name, child));
+            childrenByName = names;
+            this.childrenByName = childrenByName;
+        }
+        return Optional.ofNullable(childrenByName.get(name));
     }
 
-    // Apply limited expansion
-    int applyExpand(Tree<WrappedYangNode> tree, int limit) {
-        if (expand && limit > 0) {
-            int limitBefore = limit;
-            tree.expand(this);
-
-            for (WrappedYangNode child: tree.getTreeData().getChildren(this))
-                limit = child.applyExpand(tree, limit);
-
-            if (limit == limitBefore)
-                --limit;
-        }
-        return limit;
+    // Collect data nodes which are children of this node in data trees
+    private void addChildNames(Map<String,WrappedYangNode> names) {
+        getChildren().forEach(child -> {
+            if (child.node instanceof ChoiceSchemaNode || child.node instanceof CaseSchemaNode)
+                child.addChildNames(names);
+            else
+                names.putIfAbsent(child.name, child);
+        });
     }
-}
\ No newline at end of file
+}
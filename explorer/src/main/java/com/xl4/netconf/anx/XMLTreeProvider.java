@@ -0,0 +1,338 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.xl4.netconf.anc.XMLElement;
+import com.vaadin.data.provider.AbstractBackEndHierarchicalDataProvider;
+import com.vaadin.data.provider.HierarchicalQuery;
+import com.vaadin.ui.Tree;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import javax.xml.XMLConstants;
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Lazy data provider for a tree of retrieved NETCONF data, children are only looked up once a node is expanded
+ */
+class XMLTreeProvider extends AbstractBackEndHierarchicalDataProvider<XMLElement, Void> {
+    private XMLElement data;
+    private BiPredicate<XMLElement,XMLElement> childFilter;
+    private List<String> nodeTerms;
+    private List<String> valueTerms;
+
+    // Result of applying the filters, kept separately from the data which may be shared
+    private Set<Element> visible;
+    private Set<Element> complete = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Set<Element> expand = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Map<Element,List<XMLElement>> children = new IdentityHashMap<>();
+    private List<XMLElement> roots;
+
+    // Nodes which may have children not retrieved yet, unless they were retrieved in the meantime
+    private Predicate<XMLElement> unloaded;
+    private Set<Element> loaded = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Create data provider
+     * @param data element containing the top-level data nodes, e.g. the data element of a get reply
+     * @param nodeFilter space-separated terms, a node and its subtree are shown if its name contains all of them
+     * @param valueFilter space-separated terms, a node and its subtree are shown if a leaf value contains all of them
+     * @param childFilter decides which children (second argument) of a parent (first argument) are shown at all
+     */
+    XMLTreeProvider(XMLElement data, String nodeFilter, String valueFilter,
+            BiPredicate<XMLElement,XMLElement> childFilter) {
+        this.data = data;
+        this.childFilter = childFilter;
+        this.nodeTerms = getTerms(nodeFilter);
+        this.valueTerms = getTerms(valueFilter);
+
+        // Apply filters once in a single pass, only the top-most nodes of fully visible subtrees are recorded
+        if (!nodeTerms.isEmpty() || !valueTerms.isEmpty()) {
+            visible = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (XMLElement element: data)
+                applyFilter(element, nodeTerms.isEmpty(), valueTerms.isEmpty());
+        }
+    }
+
+    // Split a filter into lowercase terms
+    static List<String> getTerms(String filter) {
+        return Arrays.stream(filter.toLowerCase().split(" ")).filter(x -> !x.isEmpty()).collect(Collectors.toList());
+    }
+
+    static boolean containsAll(String text, List<String> terms) {
+        for (String term: terms)
+            if (!text.contains(term))
+                return false;
+        return true;
+    }
+
+    // Apply node and value filters to an element and its children and return whether it is visible
+    private boolean applyFilter(XMLElement element, boolean nodeMatch, boolean valueMatch) {
+        nodeMatch = nodeMatch || containsAll(element.getName().toLowerCase(), nodeTerms);
+
+        // Nodes with a leaf value matching the value filter are shown including all their children
+        if (!valueMatch) {
+            for (XMLElement child: element) {
+                if (!child.stream().findAny().isPresent() &&
+                        containsAll(child.getText().toLowerCase(), valueTerms)) {
+                    expand.add(element.getElement());
+                    valueMatch = true;
+                    break;
+                }
+            }
+        }
+
+        if (nodeMatch && valueMatch) {
+            complete.add(element.getElement());
+            return true;
+        }
+
+        boolean okay = false;
+        for (XMLElement child: element)
+            if (applyFilter(child, nodeMatch, valueMatch))
+                okay = true;
+
+        // Nodes with visible children are expanded while not all filters are satisfied yet
+        if (okay) {
+            visible.add(element.getElement());
+            expand.add(element.getElement());
+        }
+        return okay;
+    }
+
+    // Get the sorted and filtered children of a node, null denotes the top-level
+    private synchronized List<XMLElement> getChildren(XMLElement parent) {
+        List<XMLElement> result = (parent == null) ? roots : children.get(parent.getElement());
+        if (result == null) {
+            boolean parentComplete = visible == null || (parent != null && complete.contains(parent.getElement()));
+            ArrayList<Map.Entry<String,XMLElement>> entries = new ArrayList<>();
+            for (XMLElement child: (parent == null) ? data : parent) {
+                if ((parent != null && !childFilter.test(parent, child)) ||
+                        (!parentComplete && !visible.contains(child.getElement()) &&
+                                !complete.contains(child.getElement())))
+                    continue;
+
+                if (parentComplete && visible != null)
+                    complete.add(child.getElement());
+
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(child.getName(), child));
+            }
+
+            // Sort by precomputed names instead of querying the DOM on every comparison
+            entries.sort(Map.Entry.comparingByKey());
+            result = entries.stream().map(Map.Entry::getValue).collect(Collectors.toList());
+
+            if (parent == null)
+                roots = result;
+            else
+                children.put(parent.getElement(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Append a batch of top-level data nodes received by a streaming retrieval, filters are not applied to them
+     * @param batch element containing the top-level data nodes
+     * @param continued whether the first node of the batch continues the last top-level node appended before
+     */
+    synchronized void append(XMLElement batch, boolean continued) {
+        XMLElement last = merge(data, batch, continued);
+        if (continued && last != null)
+            children.remove(last.getElement());
+        roots = null;
+    }
+
+    /**
+     * Replace the children of a node, e.g. with the complete content of a list entry retrieved on demand
+     * @param element node shown in the tree
+     * @param content element whose children are moved to the node, filters are not applied to them
+     */
+    synchronized void replaceChildren(XMLElement element, XMLElement content) {
+        element.stream().collect(Collectors.toList()).forEach(XMLElement::remove);
+        content.stream().collect(Collectors.toList()).forEach(element::withChild);
+        children.remove(element.getElement());
+        complete.add(element.getElement());
+        loaded.add(element.getElement());
+    }
+
+    /**
+     * Set which nodes may have children which were not retrieved yet, e.g. due to a depth limit of the retrieval
+     * @param unloaded decides whether a node without children is shown as expandable
+     */
+    void setUnloaded(Predicate<XMLElement> unloaded) {
+        this.unloaded = unloaded;
+    }
+
+    /**
+     * Check whether a node may have children which were not retrieved yet
+     * @param element
+     * @return
+     */
+    synchronized boolean isUnloaded(XMLElement element) {
+        return unloaded != null && !loaded.contains(element.getElement()) && getChildren(element).isEmpty() &&
+                unloaded.test(element);
+    }
+
+    /**
+     * Merge a batch of top-level data nodes received by a streaming retrieval into the data received before
+     * @param data element containing the top-level data nodes received before
+     * @param batch element containing the top-level data nodes of the batch
+     * @param continued whether the first node of the batch continues the last top-level node of the data
+     * @return the top-level node continued by the batch, if any
+     */
+    static XMLElement merge(XMLElement data, XMLElement batch, boolean continued) {
+        List<XMLElement> elements = batch.stream().collect(Collectors.toList());
+        XMLElement last = null;
+        if (continued && !elements.isEmpty()) {
+            Node node = data.getElement().getLastChild();
+            while (node != null && node.getNodeType() != Node.ELEMENT_NODE)
+                node = node.getPreviousSibling();
+
+            // Move the children received since the last batch to the node already received
+            XMLElement continuation = elements.remove(0);
+            if (node != null) {
+                last = new XMLElement((Element)node);
+                for (XMLElement child: continuation.stream().collect(Collectors.toList()))
+                    last.withChild(child);
+            } else {
+                declareScope(batch, continuation);
+                data.withChild(continuation);
+            }
+        }
+
+        for (XMLElement element: elements) {
+            declareScope(batch, element);
+            data.withChild(element);
+        }
+        return last;
+    }
+
+    // Keep the namespace declarations of a batch in scope of a top-level node moved to another parent
+    private static void declareScope(XMLElement batch, XMLElement element) {
+        NamedNodeMap attributes = batch.getElement().getAttributes();
+        for (int i = 0; i < attributes.getLength(); ++i) {
+            Attr attribute = (Attr)attributes.item(i);
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()) &&
+                    !element.getElement().hasAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                            attribute.getLocalName()))
+                element.getElement().setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getName(),
+                        attribute.getValue());
+        }
+    }
+
+    // Get the top-level data nodes shown
+    List<XMLElement> getRoots() {
+        return getChildren(null);
+    }
+
+    // Check whether the given node is a top-level data node
+    boolean isRoot(XMLElement element) {
+        XMLElement parent = element.getParent();
+        return parent == null || parent.getElement().isSameNode(data.getElement());
+    }
+
+    // Get the top-level data node the given node belongs to
+    XMLElement getRoot(XMLElement element) {
+        while (!isRoot(element))
+            element = element.getParent();
+        return element;
+    }
+
+    // Get the names from the top-level data node to the given one joined by slashes
+    String getPath(XMLElement element) {
+        String path = element.getName();
+        while (!isRoot(element)) {
+            element = element.getParent();
+            path = element.getName() + "/" + path;
+        }
+        return path;
+    }
+
+    /**
+     * Expand nodes which contain filter matches
+     * @param tree
+     * @param limit maximum number of nodes to expand
+     * @return remaining number of nodes which can be expanded
+     */
+    int expandMatches(Tree<XMLElement> tree, int limit) {
+        return expandMatches(tree, getRoots(), limit);
+    }
+
+    private int expandMatches(Tree<XMLElement> tree, List<XMLElement> elements, int limit) {
+        for (XMLElement element: elements) {
+            if (limit <= 0)
+                break;
+
+            if (expand.contains(element.getElement())) {
+                tree.expand(element);
+                limit = expandMatches(tree, getChildren(element), limit - 1);
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Expand nodes along a path of data node names
+     * @param tree
+     * @param path names of the data nodes starting with the top-level node
+     * @param limit maximum number of nodes to expand
+     * @return remaining number of nodes which can be expanded
+     */
+    int expandPath(Tree<XMLElement> tree, List<String> path, int limit) {
+        return expandPath(tree, getRoots(), path, limit);
+    }
+
+    private int expandPath(Tree<XMLElement> tree, List<XMLElement> elements, List<String> path, int limit) {
+        if (path.isEmpty())
+            return limit;
+
+        String hop = path.get(0);
+        for (XMLElement element: elements) {
+            if (limit <= 0)
+                break;
+
+            if (element.getName().equals(hop)) {
+                tree.expand(element);
+                limit = expandPath(tree, getChildren(element), path.subList(1, path.size()), limit - 1);
+            }
+        }
+        return limit;
+    }
+
+    @Override
+    public int getChildCount(HierarchicalQuery<XMLElement, Void> query) {
+        return getChildren(query.getParent()).size();
+    }
+
+    @Override
+    public boolean hasChildren(XMLElement item) {
+        return !getChildren(item).isEmpty() || isUnloaded(item);
+    }
+
+    @Override
+    protected Stream<XMLElement> fetchChildrenFromBackEnd(HierarchicalQuery<XMLElement, Void> query) {
+        return getChildren(query.getParent()).stream().skip(query.getOffset()).limit(query.getLimit());
+    }
+}
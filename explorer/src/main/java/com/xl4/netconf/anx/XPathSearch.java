@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xl4.netconf.anx;
+
+import com.xl4.netconf.anc.XMLElement;
+
+import java.util.*;
+
+/**
+ * Search terms of the data view translated to an XPath filter, so the device only returns matching subtrees.
+ *
+ * The filter selects at least the nodes shown by the client-side search of XMLTreeProvider, which is still applied
+ * to the returned data. Like the client-side search it also matches the names and leaf values of the ancestors of
+ * the selected nodes. The device checks all leafs of an ancestor though, not only the ones selected by the subtree
+ * filter, so more data than shown may be returned. Search terms are case-insensitive, which is limited to ASCII
+ * letters as XPath 1.0 has no case conversion.
+ */
+class XPathSearch {
+    private static final String UPPER = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String LOWER = "abcdefghijklmnopqrstuvwxyz";
+
+    private String expression;
+    private Map<String,String> namespaces = new LinkedHashMap<>();
+
+    // Steps to the nodes selected by a filter element and whether any of their names matches the node terms
+    private static class Scope {
+        private List<String> steps;
+        private boolean nodeMatch;
+
+        Scope(List<String> steps, boolean nodeMatch) {
+            this.steps = steps;
+            this.nodeMatch = nodeMatch;
+        }
+
+        // Location path of the steps, the first ones get an additional predicate
+        String getPath(int length, String predicate) {
+            StringBuilder path = new StringBuilder();
+            for (int i = 0; i < steps.size(); ++i) {
+                path.append('/').append(steps.get(i));
+                if (i == length - 1)
+                    path.append(predicate);
+            }
+            return path.toString();
+        }
+    }
+
+    private XPathSearch() {
+    }
+
+    /**
+     * Create a search filter scoped to the nodes selected by a subtree filter
+     * @param subtreeFilter top-level filter elements or an empty list for all data
+     * @param nodeFilter    space-separated terms, a node and its subtree are shown if its name contains all of them
+     * @param valueFilter   space-separated terms, a node and its subtree are shown if a leaf value contains all of them
+     * @return search filter unless there are no terms or they can't be expressed in XPath
+     */
+    static Optional<XPathSearch> create(List<XMLElement> subtreeFilter, String nodeFilter, String valueFilter) {
+        List<String> nodeTerms = XMLTreeProvider.getTerms(nodeFilter);
+        List<String> valueTerms = XMLTreeProvider.getTerms(valueFilter);
+        if (nodeTerms.isEmpty() && valueTerms.isEmpty())
+            return Optional.empty();
+
+        XPathSearch search = new XPathSearch();
+        List<Scope> scopes = new ArrayList<>();
+        for (XMLElement filter: subtreeFilter)
+            if (!search.addScopes(scopes, Collections.emptyList(), false, filter, nodeTerms))
+                return Optional.empty();
+        if (scopes.isEmpty())
+            scopes.add(new Scope(Collections.emptyList(), false));
+
+        Optional<String> node = getCondition("local-name()", nodeTerms);
+        Optional<String> value = getCondition(".", valueTerms);
+        if (!node.isPresent() || !value.isPresent())
+            return Optional.empty();
+
+        // Value matches select the parent of the leaf, so the node is returned including all its children
+        String nodeStep = "/descendant-or-self::*[" + node.get() + "]";
+        String valuePredicate = "[*[not(*) and " + value.get() + "]]";
+        String valueStep = "/descendant-or-self::*" + valuePredicate;
+
+        List<String> paths = new ArrayList<>();
+        for (Scope scope: scopes) {
+            // Names of the selected node or its ancestors matching the node terms make the whole scope match
+            String path = scope.getPath(0, "");
+            boolean nodeMatch = nodeTerms.isEmpty() || scope.nodeMatch;
+            if (valueTerms.isEmpty()) {
+                paths.add(nodeMatch ? path : path + nodeStep);
+                continue;
+            }
+
+            // Leaf values of ancestors match as well, which also covers a selected leaf through its parent
+            for (int i = 1; i < scope.steps.size(); ++i) {
+                String ancestorPath = scope.getPath(i, valuePredicate);
+                paths.add(nodeMatch ? ancestorPath : ancestorPath + nodeStep);
+            }
+
+            if (nodeMatch) {
+                paths.add(path + valueStep);
+            } else {
+                paths.add(path + nodeStep + valueStep);
+                paths.add(path + valueStep + nodeStep);
+            }
+        }
+        search.expression = String.join(" | ", paths);
+        return Optional.of(search);
+    }
+
+    // Condition matching if the lowercased value contains all terms, an empty list of terms always matches
+    private static Optional<String> getCondition(String value, List<String> terms) {
+        List<String> conditions = new ArrayList<>();
+        for (String term: terms) {
+            if (!term.chars().allMatch(c -> c < 128))
+                return Optional.empty();
+
+            Optional<String> literal = getLiteral(term);
+            if (!literal.isPresent())
+                return Optional.empty();
+            conditions.add(String.format("contains(translate(%s, '%s', '%s'), %s)", value, UPPER, LOWER,
+                    literal.get()));
+        }
+        return Optional.of(conditions.isEmpty() ? "true()" : String.join(" and ", conditions));
+    }
+
+    // XPath 1.0 literals can't escape quotes, so values containing both kinds can't be expressed
+    private static Optional<String> getLiteral(String value) {
+        if (value.indexOf('\'') < 0)
+            return Optional.of("'" + value + "'");
+        else if (value.indexOf('"') < 0)
+            return Optional.of("\"" + value + "\"");
+        return Optional.empty();
+    }
+
+    // Add scopes of all nodes selected by a filter element, content matches become predicates
+    private boolean addScopes(List<Scope> scopes, List<String> path, boolean nodeMatch, XMLElement filter,
+            List<String> nodeTerms) {
+        StringBuilder step = new StringBuilder(getName(filter));
+        List<XMLElement> children = new ArrayList<>();
+        for (XMLElement child: filter) {
+            if (child.stream().findAny().isPresent() || child.getText().trim().isEmpty()) {
+                children.add(child);
+                continue;
+            }
+
+            Optional<String> literal = getLiteral(child.getText().trim());
+            if (!literal.isPresent())
+                return false;
+            step.append('[').append(getName(child)).append('=').append(literal.get()).append(']');
+        }
+
+        List<String> steps = new ArrayList<>(path);
+        steps.add(step.toString());
+        nodeMatch = nodeMatch || XMLTreeProvider.containsAll(filter.getName().toLowerCase(), nodeTerms);
+        if (children.isEmpty())
+            scopes.add(new Scope(steps, nodeMatch));
+
+        for (XMLElement child: children)
+            if (!addScopes(scopes, steps, nodeMatch, child, nodeTerms))
+                return false;
+        return true;
+    }
+
+    // Qualified name using a prefix declared for the namespace
+    private String getName(XMLElement element) {
+        String prefix = namespaces.entrySet().stream().filter(x -> x.getValue().equals(element.getNamespace()))
+                .map(Map.Entry::getKey).findAny().orElse(null);
+        if (prefix == null) {
+            prefix = "n" + namespaces.size();
+            namespaces.put(prefix, element.getNamespace());
+        }
+        return prefix + ":" + element.getName();
+    }
+
+    /**
+     * Get the XPath expression
+     * @return
+     */
+    String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Get the namespaces used by the expression
+     * @return namespaces by prefix
+     */
+    Map<String,String> getNamespaces() {
+        return namespaces;
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.xl4.netconf.grpc;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Decoder for Cisco model-driven telemetry messages (telemetry.proto) in GPB or key-value GPB encoding.
+ *
+ * Messages are parsed into the generated XRTelemetry classes and flattened into one record per leaf value. Names of
+ * containers and leafs are shared across messages, so flattening only allocates for the keys of each row. Rows of the
+ * compact GPB encoding need the messages generated for their encoding path, so their content is handed over as a
+ * single BYTES record.
+ *
+ * A decoder is not thread-safe, each subscription should use its own.
+ */
+public class TelemetryDecoder {
+    private Map<String,PathNode> paths = new HashMap<>();
+    private TelemetryRecord record = new TelemetryRecord();
+    private StringBuilder keys = new StringBuilder();
+    private Consumer<TelemetryRecord> consumer;
+
+    // Container or leaf below an encoding path with its complete name
+    private static class PathNode {
+        private String path;
+        private Map<String,PathNode> children = new HashMap<>();
+
+        PathNode(String path) {
+            this.path = path;
+        }
+
+        PathNode getChild(String name) {
+            PathNode child = children.get(name);
+            if (child == null) {
+                child = new PathNode(path.isEmpty() ? name : path + "/" + name);
+                children.put(name, child);
+            }
+            return child;
+        }
+    }
+
+    /**
+     * Decode a message into records
+     * @param message  Telemetry message
+     * @param consumer called for each leaf value with a record which is reused afterwards
+     * @throws InvalidProtocolBufferException
+     */
+    public void decode(byte[] message, Consumer<TelemetryRecord> consumer) throws InvalidProtocolBufferException {
+        decode(XRTelemetry.Telemetry.parseFrom(message), consumer);
+    }
+
+    /**
+     * Decode a parsed message into records
+     * @param message  Telemetry message
+     * @param consumer called for each leaf value with a record which is reused afterwards
+     */
+    public void decode(XRTelemetry.Telemetry message, Consumer<TelemetryRecord> consumer) {
+        this.consumer = consumer;
+        String encodingPath = message.getEncodingPath();
+        PathNode root = paths.get(encodingPath);
+        if (root == null) {
+            root = new PathNode("");
+            paths.put(encodingPath, root);
+        }
+        record.path = encodingPath;
+
+        for (XRTelemetry.TelemetryField row : message.getDataGpbkvList())
+            decodeRow(row, root, message.getMsgTimestamp());
+
+        if (message.hasDataGpb())
+            decodeTable(message.getDataGpb(), message.getMsgTimestamp());
+        this.consumer = null;
+    }
+
+    // A row of the key-value encoding is a field with the children "keys" and "content"
+    private void decodeRow(XRTelemetry.TelemetryField row, PathNode root, long timestamp) {
+        record.timestamp = row.getTimestamp() != 0 ? row.getTimestamp() : timestamp;
+
+        // Keys are collected first, so they are known for all values of the row
+        keys.setLength(0);
+        for (XRTelemetry.TelemetryField child : row.getFieldsList()) {
+            if (!child.getName().equals("keys"))
+                continue;
+
+            for (XRTelemetry.TelemetryField key : child.getFieldsList()) {
+                if (readValue(key)) {
+                    if (keys.length() > 0)
+                        keys.append(',');
+                    keys.append(key.getName()).append('=').append(record.getText());
+                }
+            }
+        }
+        record.keys = keys.toString();
+
+        for (XRTelemetry.TelemetryField child : row.getFieldsList()) {
+            if (child.getName().equals("content"))
+                decodeChildren(child, root);
+            else if (!child.getName().equals("keys"))
+                decodeField(child, root);
+        }
+    }
+
+    // Decode all children of a field
+    private void decodeChildren(XRTelemetry.TelemetryField field, PathNode parent) {
+        for (XRTelemetry.TelemetryField child : field.getFieldsList())
+            decodeField(child, parent);
+    }
+
+    // Emit the value of a field if it has one and decode its children
+    private void decodeField(XRTelemetry.TelemetryField field, PathNode parent) {
+        PathNode node = parent.getChild(field.getName());
+        if (readValue(field)) {
+            record.name = node.path;
+            consumer.accept(record);
+        }
+
+        if (field.getFieldsCount() > 0)
+            decodeChildren(field, node);
+    }
+
+    // Read the value of a field into the record and return whether the field has one
+    private boolean readValue(XRTelemetry.TelemetryField field) {
+        switch (field.getValueByTypeCase()) {
+            case BYTES_VALUE:
+                record.type = TelemetryRecord.Type.BYTES;
+                record.object = field.getBytesValue().toByteArray();
+                return true;
+            case STRING_VALUE:
+                record.type = TelemetryRecord.Type.STRING;
+                record.object = field.getStringValue();
+                return true;
+            case BOOL_VALUE:
+                record.type = TelemetryRecord.Type.BOOL;
+                record.integer = field.getBoolValue() ? 1 : 0;
+                return true;
+            case UINT32_VALUE:
+                record.type = TelemetryRecord.Type.UNSIGNED;
+                record.integer = field.getUint32Value() & 0xffffffffL;
+                return true;
+            case UINT64_VALUE:
+                record.type = TelemetryRecord.Type.UNSIGNED;
+                record.integer = field.getUint64Value();
+                return true;
+            case SINT32_VALUE:
+                record.type = TelemetryRecord.Type.INTEGER;
+                record.integer = field.getSint32Value();
+                return true;
+            case SINT64_VALUE:
+                record.type = TelemetryRecord.Type.INTEGER;
+                record.integer = field.getSint64Value();
+                return true;
+            case DOUBLE_VALUE:
+                record.type = TelemetryRecord.Type.DOUBLE;
+                record.real = field.getDoubleValue();
+                return true;
+            case FLOAT_VALUE:
+                record.type = TelemetryRecord.Type.DOUBLE;
+                record.real = field.getFloatValue();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // Rows of the compact encoding can't be decoded without the messages of the encoding path
+    private void decodeTable(XRTelemetry.TelemetryGPBTable table, long timestamp) {
+        for (XRTelemetry.TelemetryRowGPB row : table.getRowList()) {
+            if (row.getContent().isEmpty())
+                continue;
+
+            record.timestamp = row.getTimestamp() != 0 ? row.getTimestamp() : timestamp;
+            record.keys = "";
+            record.name = "content";
+            record.type = TelemetryRecord.Type.BYTES;
+            record.object = row.getContent().toByteArray();
+            consumer.accept(record);
+        }
+    }
+}
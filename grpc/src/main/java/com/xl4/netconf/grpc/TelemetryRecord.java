@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.xl4.netconf.grpc;
+
+import java.util.Arrays;
+
+/**
+ * Leaf value of a telemetry message, flattened from the generated XRTelemetry classes by the TelemetryDecoder.
+ *
+ * The decoder reuses the same instance for all records of a message, so consumers need to copy() records they keep.
+ */
+public class TelemetryRecord {
+    public enum Type {
+        STRING, BYTES, BOOL, INTEGER, UNSIGNED, DOUBLE
+    }
+
+    String path;
+    String keys;
+    String name;
+    long timestamp;
+    Type type;
+    long integer;
+    double real;
+    Object object;
+
+    TelemetryRecord() {
+    }
+
+    /**
+     * Get the encoding path of the message, e.g. the sensor path
+     * @return
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Get the keys of the row containing the value
+     * @return keys formatted as name=value separated by commas or an empty string
+     */
+    public String getKeys() {
+        return keys;
+    }
+
+    /**
+     * Get the name of the leaf
+     * @return names of the containers below the encoding path and the leaf separated by slashes
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the time the value was collected
+     * @return milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Get a BOOL, INTEGER or UNSIGNED value, booleans are 0 or 1 and unsigned values may be negative if they
+     * exceed the range of a long
+     * @return
+     */
+    public long getLong() {
+        return integer;
+    }
+
+    /**
+     * Get the value as a double, converting integer values
+     * @return
+     */
+    public double getDouble() {
+        switch (type) {
+            case DOUBLE:
+                return real;
+            case UNSIGNED:
+                return integer >= 0 ? integer : (integer >>> 1) * 2.0 + (integer & 1);
+            case BOOL:
+            case INTEGER:
+                return integer;
+            default:
+                return Double.NaN;
+        }
+    }
+
+    /**
+     * Check whether the value is numeric, i.e. it can be charted
+     * @return
+     */
+    public boolean isNumeric() {
+        return type == Type.INTEGER || type == Type.UNSIGNED || type == Type.DOUBLE;
+    }
+
+    /**
+     * Get the value as an object
+     * @return String, byte[], Boolean, Long or Double
+     */
+    public Object getValue() {
+        switch (type) {
+            case BOOL:
+                return integer != 0;
+            case INTEGER:
+            case UNSIGNED:
+                return integer;
+            case DOUBLE:
+                return real;
+            default:
+                return object;
+        }
+    }
+
+    /**
+     * Format the value as text
+     * @return
+     */
+    public String getText() {
+        switch (type) {
+            case BOOL:
+                return Boolean.toString(integer != 0);
+            case INTEGER:
+                return Long.toString(integer);
+            case UNSIGNED:
+                return Long.toUnsignedString(integer);
+            case DOUBLE:
+                return Double.toString(real);
+            case BYTES:
+                return Arrays.toString((byte[])object);
+            default:
+                return (String)object;
+        }
+    }
+
+    /**
+     * Copy the record, so it can be kept after the decoder moved on
+     * @return
+     */
+    public TelemetryRecord copy() {
+        TelemetryRecord copy = new TelemetryRecord();
+        copy.path = path;
+        copy.keys = keys;
+        copy.name = name;
+        copy.timestamp = timestamp;
+        copy.type = type;
+        copy.integer = integer;
+        copy.real = real;
+        copy.object = object;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return path + (keys.isEmpty() ? "" : "[" + keys + "]") + " " + name + " = " + getText();
+    }
+}
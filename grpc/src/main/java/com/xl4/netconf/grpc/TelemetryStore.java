@@ -0,0 +1,505 @@
+/**
+ * Copyright (c) 2018 Cisco Systems
+ *
+ * Author: Steven Barth <stbarth@cisco.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.xl4.netconf.grpc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalDouble;
+
+/**
+ * Time series of numeric telemetry leafs from MDT and gNMI streams.
+ *
+ * Each series is identified by its sensor path, the keys of its row and the name of the leaf and is kept in tiers
+ * of decreasing resolution. A tier stores one bucket per interval of its resolution as primitive columns holding
+ * the time, minimum, maximum, sum, count and last value of the samples within the interval, so the memory used
+ * is bounded by the retention of the tiers instead of the rate at which samples arrive. Series which did not
+ * receive samples within the longest retention are dropped.
+ *
+ * The store is safe for concurrent use, e.g. filled by a subscription and queried by the UI.
+ */
+public class TelemetryStore {
+    // Resolution and retention of the default tiers: seconds for 10 minutes and minutes for 12 hours
+    private static final long[] RESOLUTIONS = {1000, 60000};
+    private static final long[] RETENTIONS = {600000, 43200000};
+    private static final int MAX_SERIES = 10000;
+
+    // Buckets allocated initially, tiers grow up to their retention as needed
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] resolutions;
+    private long[] retentions;
+    private int maxSeries;
+    private Map<Key,Series> series = new HashMap<>();
+    private long newest;
+    private long expired;
+
+    /**
+     * Identification of a series
+     */
+    public static class Key {
+        private String path;
+        private String keys;
+        private String name;
+
+        public Key(String path, String keys, String name) {
+            this.path = path;
+            this.keys = keys;
+            this.name = name;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getKeys() {
+            return keys;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key))
+                return false;
+            Key other = (Key)o;
+            return path.equals(other.path) && keys.equals(other.keys) && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, keys, name);
+        }
+
+        @Override
+        public String toString() {
+            return path + (keys.isEmpty() ? "" : "[" + keys + "]") + " " + name;
+        }
+    }
+
+    /**
+     * Buckets of a series within a range of time, oldest first
+     */
+    public static class Points {
+        private long resolution;
+        private int size;
+        private long[] time;
+        private double[] min;
+        private double[] max;
+        private double[] average;
+        private double[] last;
+
+        private Points(long resolution, int size) {
+            this.resolution = resolution;
+            time = new long[size];
+            min = new double[size];
+            max = new double[size];
+            average = new double[size];
+            last = new double[size];
+        }
+
+        /**
+         * Get the interval covered by each bucket
+         * @return milliseconds
+         */
+        public long getResolution() {
+            return resolution;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the start of a bucket
+         * @param index
+         * @return milliseconds since the epoch
+         */
+        public long getTime(int index) {
+            return time[index];
+        }
+
+        public double getMin(int index) {
+            return min[index];
+        }
+
+        public double getMax(int index) {
+            return max[index];
+        }
+
+        public double getAverage(int index) {
+            return average[index];
+        }
+
+        /**
+         * Get the latest sample within a bucket, e.g. to calculate the rate of a counter
+         * @param index
+         * @return
+         */
+        public double getLast(int index) {
+            return last[index];
+        }
+    }
+
+    // Ring of buckets of the same resolution with the oldest one at start
+    private static class Tier {
+        private long resolution;
+        private int capacity;
+        private int start;
+        private int size;
+        private long[] time = new long[0];
+        private double[] min = new double[0];
+        private double[] max = new double[0];
+        private double[] sum = new double[0];
+        private double[] last = new double[0];
+        private int[] count = new int[0];
+
+        Tier(long resolution, long retention) {
+            this.resolution = resolution;
+            capacity = (int)Math.max(1, retention / resolution);
+        }
+
+        private int slot(int index) {
+            return (start + index) % time.length;
+        }
+
+        void add(long timestamp, double value) {
+            long bucket = timestamp - Math.floorMod(timestamp, resolution);
+            int index = size - 1;
+            boolean latest = true;
+            if (size == 0 || bucket > time[slot(index)]) {
+                index = append(bucket);
+            } else if (bucket < time[slot(index)]) {
+                // Samples arriving late are added to their bucket if it is still kept
+                while (index >= 0 && time[slot(index)] > bucket)
+                    --index;
+                if (index < 0 || time[slot(index)] != bucket)
+                    return;
+                latest = false;
+            }
+
+            int slot = slot(index);
+            if (count[slot] == 0 || value < min[slot])
+                min[slot] = value;
+            if (count[slot] == 0 || value > max[slot])
+                max[slot] = value;
+            if (count[slot] == 0 || latest)
+                last[slot] = value;
+            sum[slot] += value;
+            ++count[slot];
+        }
+
+        private int append(long bucket) {
+            if (size == time.length && size < capacity) {
+                // Tiers only grow before wrapping around, so the buckets are still in order
+                int length = Math.min(capacity, Math.max(INITIAL_CAPACITY, 2 * size));
+                time = Arrays.copyOf(time, length);
+                min = Arrays.copyOf(min, length);
+                max = Arrays.copyOf(max, length);
+                sum = Arrays.copyOf(sum, length);
+                last = Arrays.copyOf(last, length);
+                count = Arrays.copyOf(count, length);
+            }
+
+            if (size == capacity) {
+                start = (start + 1) % capacity;
+                --size;
+            }
+
+            int slot = slot(size);
+            time[slot] = bucket;
+            sum[slot] = 0;
+            count[slot] = 0;
+            return size++;
+        }
+
+        // Index of the first bucket not older than the given time
+        int find(long timestamp) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (time[slot(middle)] + resolution <= timestamp)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            return low;
+        }
+
+        long getOldest() {
+            return size > 0 ? time[slot(0)] : Long.MAX_VALUE;
+        }
+
+        long getNewest() {
+            return size > 0 ? time[slot(size - 1)] : Long.MIN_VALUE;
+        }
+
+        long getMemoryUsage() {
+            return 44L * time.length;
+        }
+    }
+
+    private static class Series {
+        private Tier[] tiers;
+
+        Series(long[] resolutions, long[] retentions) {
+            tiers = new Tier[resolutions.length];
+            for (int i = 0; i < tiers.length; ++i)
+                tiers[i] = new Tier(resolutions[i], retentions[i]);
+        }
+
+        synchronized void add(long timestamp, double value) {
+            for (Tier tier: tiers)
+                tier.add(timestamp, value);
+        }
+
+        // Finest tier still covering the start of the range or otherwise the one reaching back the furthest
+        Tier select(long from) {
+            Tier furthest = tiers[0];
+            for (Tier tier: tiers) {
+                if (tier.getOldest() <= from)
+                    return tier;
+                if (tier.getOldest() < furthest.getOldest())
+                    furthest = tier;
+            }
+            return furthest;
+        }
+    }
+
+    /**
+     * Create a store with tiers of one second resolution for 10 minutes and of one minute resolution for 12 hours
+     */
+    public TelemetryStore() {
+        this(RESOLUTIONS, RETENTIONS, MAX_SERIES);
+    }
+
+    /**
+     * Create a store
+     * @param resolutions intervals of the buckets of each tier in milliseconds, finest first
+     * @param retentions  time range kept by each tier in milliseconds
+     * @param maxSeries   maximum number of series, samples of further series are dropped
+     */
+    public TelemetryStore(long[] resolutions, long[] retentions, int maxSeries) {
+        if (resolutions.length == 0 || resolutions.length != retentions.length)
+            throw new IllegalArgumentException("Each tier needs a resolution and a retention");
+        this.resolutions = resolutions.clone();
+        this.retentions = retentions.clone();
+        this.maxSeries = maxSeries;
+    }
+
+    /**
+     * Add a sample to a series
+     * @param key
+     * @param timestamp milliseconds since the epoch
+     * @param value
+     */
+    public void add(Key key, long timestamp, double value) {
+        Series target;
+        synchronized (this) {
+            newest = Math.max(newest, timestamp);
+            expire();
+
+            target = series.get(key);
+            if (target == null) {
+                if (series.size() >= maxSeries)
+                    return;
+                target = new Series(resolutions, retentions);
+                series.put(key, target);
+            }
+        }
+        target.add(timestamp, value);
+    }
+
+    /**
+     * Add a record of a MDT stream if its value is numeric
+     * @param record
+     */
+    public void add(TelemetryRecord record) {
+        if (record.isNumeric())
+            add(new Key(record.getPath(), record.getKeys(), record.getName()), record.getTimestamp(),
+                    record.getDouble());
+    }
+
+    /**
+     * Add the numeric values of a gNMI notification
+     * @param notification
+     */
+    public void add(GNMI.Notification notification) {
+        String prefix = GRPCClient.formatGNMIPath(notification.getPrefix());
+        long timestamp = notification.getTimestamp() / 1000000;
+        for (GNMI.Update update: notification.getUpdateList()) {
+            GNMI.TypedValue value = update.getVal();
+            double number;
+            switch (value.getValueCase()) {
+                case INT_VAL:
+                    number = value.getIntVal();
+                    break;
+                case UINT_VAL:
+                    number = value.getUintVal() >= 0 ? value.getUintVal() :
+                            (value.getUintVal() >>> 1) * 2.0 + (value.getUintVal() & 1);
+                    break;
+                case FLOAT_VAL:
+                    number = value.getFloatVal();
+                    break;
+                case DECIMAL_VAL:
+                    number = value.getDecimalVal().getDigits() / Math.pow(10, value.getDecimalVal().getPrecision());
+                    break;
+                default:
+                    continue;
+            }
+
+            String name = GRPCClient.formatGNMIPath(update.getPath());
+            add(new Key(prefix, "", name.startsWith("/") ? name.substring(1) : name), timestamp, number);
+        }
+    }
+
+    // Drop series without samples within the retention, checked once per resolution of the finest tier
+    private void expire() {
+        if (newest - expired < resolutions[0])
+            return;
+        expired = newest;
+
+        long limit = newest - Arrays.stream(retentions).max().getAsLong();
+        for (Iterator<Series> iterator = series.values().iterator(); iterator.hasNext(); ) {
+            Series entry = iterator.next();
+            synchronized (entry) {
+                if (Arrays.stream(entry.tiers).allMatch(x -> x.getNewest() < limit))
+                    iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Get the keys of all series
+     * @return
+     */
+    public synchronized List<Key> getKeys() {
+        return new ArrayList<>(series.keySet());
+    }
+
+    /**
+     * Get the buckets of a series within a range of time from the finest tier which still covers its start
+     * @param key
+     * @param from start of the range in milliseconds since the epoch
+     * @param to   end of the range in milliseconds since the epoch
+     * @return buckets overlapping the range
+     */
+    public Points query(Key key, long from, long to) {
+        Series target;
+        synchronized (this) {
+            target = series.get(key);
+        }
+        if (target == null)
+            return new Points(resolutions[0], 0);
+
+        synchronized (target) {
+            Tier tier = target.select(from);
+            int first = tier.find(from);
+            int end = first;
+            while (end < tier.size && tier.time[tier.slot(end)] <= to)
+                ++end;
+
+            Points points = new Points(tier.resolution, end - first);
+            for (int i = first; i < end; ++i) {
+                int slot = tier.slot(i);
+                int index = points.size++;
+                points.time[index] = tier.time[slot];
+                points.min[index] = tier.min[slot];
+                points.max[index] = tier.max[slot];
+                points.average[index] = tier.sum[slot] / tier.count[slot];
+                points.last[index] = tier.last[slot];
+            }
+            return points;
+        }
+    }
+
+    /**
+     * Get the latest sample of a series
+     * @param key
+     * @return
+     */
+    public OptionalDouble getLatest(Key key) {
+        Series target;
+        synchronized (this) {
+            target = series.get(key);
+        }
+        if (target == null)
+            return OptionalDouble.empty();
+
+        synchronized (target) {
+            Tier tier = target.tiers[0];
+            return tier.size > 0 ? OptionalDouble.of(tier.last[tier.slot(tier.size - 1)]) : OptionalDouble.empty();
+        }
+    }
+
+    /**
+     * Calculate the rate of a counter within a range of time, restarts of the counter are taken into account
+     * @param key
+     * @param from start of the range in milliseconds since the epoch
+     * @param to   end of the range in milliseconds since the epoch
+     * @return increase per second unless there are less than two buckets within the range
+     */
+    public OptionalDouble getRate(Key key, long from, long to) {
+        Points points = query(key, from, to);
+        if (points.size() < 2)
+            return OptionalDouble.empty();
+
+        double increase = 0;
+        for (int i = 1; i < points.size(); ++i) {
+            double delta = points.getLast(i) - points.getLast(i - 1);
+            increase += delta >= 0 ? delta : points.getLast(i);
+        }
+        return OptionalDouble.of(increase * 1000 / (points.getTime(points.size() - 1) - points.getTime(0)));
+    }
+
+    /**
+     * Get the time of the latest sample added
+     * @return milliseconds since the epoch
+     */
+    public synchronized long getNewest() {
+        return newest;
+    }
+
+    /**
+     * Estimate the heap used by the columns of all series
+     * @return bytes
+     */
+    public synchronized long getMemoryUsage() {
+        long usage = 0;
+        for (Series entry: series.values())
+            synchronized (entry) {
+                for (Tier tier: entry.tiers)
+                    usage += tier.getMemoryUsage();
+            }
+        return usage;
+    }
+
+    /**
+     * Remove all series
+     */
+    public synchronized void clear() {
+        series.clear();
+    }
+}